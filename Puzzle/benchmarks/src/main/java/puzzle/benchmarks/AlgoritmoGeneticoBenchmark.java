@@ -0,0 +1,71 @@
+package puzzle.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import puzzle.model.AlgoritmoGenetico;
+import puzzle.model.PuzzleModel;
+import puzzle.model.ResultadoBusca;
+import puzzle.model.TabelaDistancias;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AlgoritmoGeneticoBenchmark {
+    // preparacao cria a população, os dois buffers e a memória e roda as gerações de aquecimento, até as linhas de
+    // genes pararem de crescer; geracoes refaz o mesmo caminho e segue por mais GERACOES. A diferença entre as duas,
+    // dividida por GERACOES, é uma geração em regime sem a alocação única do início, e ExecutarBenchmarks a imprime
+    static final int AQUECIMENTO = 20;
+    static final int GERACOES = 20;
+    private static final int DISTANCIA_MINIMA_3X3 = 26;
+
+    @Param({"100", "500", "2000"})
+    public int populacao;
+
+    @Param({"3", "4"})
+    public int dimensao;
+
+    @Param({"1"})
+    public int threads;
+
+    private PuzzleModel tabuleiro;
+
+    @Setup
+    public void preparar() {
+        tabuleiro = new PuzzleModel(dimensao);
+        SplittableRandom random = new SplittableRandom(42);
+        tabuleiro.embaralhar(random);
+        // Um 8-puzzle raso pode ser resolvido antes da última geração: fica o primeiro com solução ótima longa
+        while (dimensao == 3 && TabelaDistancias.padrao().distancia(tabuleiro) < DISTANCIA_MINIMA_3X3) {
+            tabuleiro.embaralhar(random);
+        }
+    }
+
+    @Benchmark
+    public ResultadoBusca preparacao() {
+        return resolver(AQUECIMENTO);
+    }
+
+    @Benchmark
+    public ResultadoBusca geracoes() {
+        return resolver(AQUECIMENTO + GERACOES);
+    }
+
+    // Semente fixa: as duas medidas percorrem as mesmas gerações, e uma busca que termina antes não serve de base
+    private ResultadoBusca resolver(int maxGeracoes) {
+        AlgoritmoGenetico algoritmo = new AlgoritmoGenetico(tabuleiro);
+        algoritmo.setSemente(7);
+        algoritmo.setParalelismo(threads);
+        algoritmo.setTamanhoPopulacao(populacao);
+        algoritmo.setMaxGeracoes(maxGeracoes);
+        ResultadoBusca resultado = algoritmo.resolver(() -> false);
+        if (resultado.getGeracoes() != maxGeracoes) {
+            throw new IllegalStateException("A busca parou na geração " + resultado.getGeracoes() + " de "
+                    + maxGeracoes);
+        }
+        return resultado;
+    }
+}
@@ -0,0 +1,79 @@
+package puzzle.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import puzzle.model.Cromossomo;
+import puzzle.model.PuzzleModel;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CromossomoBenchmark {
+    private static final int TAMANHO_MAXIMO = 200;
+
+    @Param({"3", "4"})
+    public int dimensao;
+
+    private SplittableRandom random;
+    private Cromossomo pai1;
+    private Cromossomo pai2;
+    private Cromossomo mutante;
+    private byte[] genesIniciais;
+
+    @Setup
+    public void preparar() {
+        random = new SplittableRandom(42);
+        PuzzleModel tabuleiro = new PuzzleModel(dimensao);
+        tabuleiro.embaralhar(random);
+        pai1 = new Cromossomo(tabuleiro, random);
+        pai2 = new Cromossomo(tabuleiro, random);
+        pai1.avaliar();
+        pai2.avaliar();
+        mutante = new Cromossomo(tabuleiro, random);
+        genesIniciais = mutante.getGenes();
+    }
+
+    // Reavaliação do zero: setGenes descarta os checkpoints de prefixo, então todo o genoma é reproduzido
+    @Benchmark
+    public double avaliarCompleto() {
+        mutante.setGenes(genesIniciais, genesIniciais.length);
+        mutante.avaliar();
+        return mutante.getFitness();
+    }
+
+    @Benchmark
+    public Cromossomo[] crossover() {
+        return Cromossomo.crossover(pai1, pai2);
+    }
+
+    // Filhos reaproveitam os checkpoints do pai até o ponto de corte
+    @Benchmark
+    public double crossoverEAvaliar() {
+        Cromossomo[] filhos = Cromossomo.crossover(pai1, pai2);
+        return filhos[0].getFitness() + filhos[1].getFitness();
+    }
+
+    @Benchmark
+    public int mutar() {
+        reiniciarSeCresceu();
+        mutante.mutar(random);
+        return mutante.getTamanho();
+    }
+
+    @Benchmark
+    public double mutarEAvaliar() {
+        reiniciarSeCresceu();
+        mutante.mutar(random);
+        return mutante.getFitness();
+    }
+
+    private void reiniciarSeCresceu() {
+        if (mutante.getTamanho() >= TAMANHO_MAXIMO) {
+            mutante.setGenes(genesIniciais, genesIniciais.length);
+        }
+    }
+}
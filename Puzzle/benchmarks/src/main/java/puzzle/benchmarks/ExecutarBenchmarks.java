@@ -0,0 +1,79 @@
+package puzzle.benchmarks;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+// Aceita as mesmas opções da linha de comando do JMH e sempre liga o GCProfiler, que reporta a taxa de
+// alocação (gc.alloc.rate.norm = bytes por operação) ao lado de cada tempo
+public final class ExecutarBenchmarks {
+
+    private ExecutarBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        OptionsBuilder opcoes = new OptionsBuilder();
+        opcoes.parent(linhaDeComando);
+        if (linhaDeComando.getIncludes().isEmpty()) {
+            opcoes.include("puzzle\\.benchmarks\\..*");
+        }
+        opcoes.addProfiler(GCProfiler.class);
+        imprimirGeracaoEmRegime(new Runner(opcoes.build()).run());
+    }
+
+    // Casa geracoes e preparacao de AlgoritmoGeneticoBenchmark com os mesmos parâmetros e imprime a diferença por
+    // geração
+    private static void imprimirGeracaoEmRegime(Collection<RunResult> resultados) {
+        Map<String, RunResult> preparacoes = new LinkedHashMap<>();
+        Map<String, RunResult> completas = new LinkedHashMap<>();
+        for (RunResult resultado : resultados) {
+            String nome = resultado.getParams().getBenchmark();
+            if (nome.endsWith("AlgoritmoGeneticoBenchmark.preparacao")) {
+                preparacoes.put(parametros(resultado.getParams()), resultado);
+            } else if (nome.endsWith("AlgoritmoGeneticoBenchmark.geracoes")) {
+                completas.put(parametros(resultado.getParams()), resultado);
+            }
+        }
+        boolean cabecalho = false;
+        for (Map.Entry<String, RunResult> completa : completas.entrySet()) {
+            RunResult preparacao = preparacoes.get(completa.getKey());
+            if (preparacao == null) {
+                continue;
+            }
+            if (!cabecalho) {
+                System.out.printf("%nGeração em regime, (geracoes - preparacao) / %d:%n",
+                        AlgoritmoGeneticoBenchmark.GERACOES);
+                cabecalho = true;
+            }
+            Result tempo = completa.getValue().getPrimaryResult();
+            System.out.printf("  %-40s %10.4f %s/geração %12.1f B/geração%n", completa.getKey(),
+                    (tempo.getScore() - preparacao.getPrimaryResult().getScore())
+                            / AlgoritmoGeneticoBenchmark.GERACOES,
+                    tempo.getScoreUnit().replace("/op", ""),
+                    (alocacao(completa.getValue()) - alocacao(preparacao)) / AlgoritmoGeneticoBenchmark.GERACOES);
+        }
+    }
+
+    private static String parametros(BenchmarkParams params) {
+        StringBuilder sb = new StringBuilder();
+        for (String chave : params.getParamsKeys()) {
+            sb.append(sb.length() == 0 ? "" : " ").append(chave).append('=').append(params.getParam(chave));
+        }
+        return sb.toString();
+    }
+
+    private static double alocacao(RunResult resultado) {
+        Result alocacao = resultado.getSecondaryResults().get("gc.alloc.rate.norm");
+        return alocacao == null ? Double.NaN : alocacao.getScore();
+    }
+}
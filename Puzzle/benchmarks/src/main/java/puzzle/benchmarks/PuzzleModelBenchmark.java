@@ -0,0 +1,59 @@
+package puzzle.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import puzzle.model.Movimento;
+import puzzle.model.PuzzleModel;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PuzzleModelBenchmark {
+    private static final int SEQUENCIA = 1024;
+
+    @Param({"3", "4", "5"})
+    public int dimensao;
+
+    private PuzzleModel tabuleiro;
+    private byte[] movimentos;
+    private int proximo;
+
+    @Setup
+    public void preparar() {
+        SplittableRandom random = new SplittableRandom(42);
+        tabuleiro = new PuzzleModel(dimensao);
+        tabuleiro.embaralhar(random);
+        movimentos = new byte[SEQUENCIA];
+        for (int i = 0; i < SEQUENCIA; i++) {
+            movimentos[i] = (byte) random.nextInt(Movimento.TOTAL);
+        }
+    }
+
+    @Benchmark
+    public boolean mover() {
+        boolean moveu = tabuleiro.mover(movimentos[proximo]);
+        proximo = (proximo + 1) & (SEQUENCIA - 1);
+        return moveu;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SEQUENCIA)
+    public int aplicarMovimentos() {
+        tabuleiro.aplicarMovimentos(movimentos, SEQUENCIA);
+        return tabuleiro.calcularDistanciaManhattan();
+    }
+
+    @Benchmark
+    public PuzzleModel copia() {
+        return tabuleiro.copia();
+    }
+
+    @Benchmark
+    public int[] toArray1D() {
+        return tabuleiro.toArray1D();
+    }
+}
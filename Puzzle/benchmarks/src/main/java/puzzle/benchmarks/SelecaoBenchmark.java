@@ -0,0 +1,64 @@
+package puzzle.benchmarks;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import puzzle.model.*;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SelecaoBenchmark {
+
+    @Param({"roleta", "alias", "torneio", "ranking"})
+    public String tipo;
+
+    @Param({"500", "5000"})
+    public int tamanho;
+
+    private Selecao selecao;
+    private double[] fitness;
+    private SplittableRandom random;
+
+    @Setup
+    public void preparar() {
+        random = new SplittableRandom(42);
+        fitness = new double[tamanho];
+        for (int i = 0; i < tamanho; i++) {
+            fitness[i] = random.nextInt(30) + random.nextDouble() * 0.01;
+        }
+        switch (tipo) {
+            case "roleta":
+                selecao = new SelecaoRoleta();
+                break;
+            case "alias":
+                selecao = new SelecaoRoletaAlias();
+                break;
+            case "torneio":
+                selecao = new SelecaoTorneio(3);
+                break;
+            default:
+                selecao = new SelecaoRanking();
+                break;
+        }
+        selecao.preparar(fitness, tamanho);
+    }
+
+    @Benchmark
+    public int selecionar() {
+        return selecao.selecionar(random);
+    }
+
+    // Custo por geração: uma preparação seguida de um sorteio por indivíduo
+    @Benchmark
+    public void geracaoCompleta(Blackhole blackhole) {
+        selecao.preparar(fitness, tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            blackhole.consume(selecao.selecionar(random));
+        }
+    }
+}
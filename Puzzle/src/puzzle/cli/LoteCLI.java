@@ -0,0 +1,327 @@
+package puzzle.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Locale;
+import puzzle.model.*;
+
+// Modo em lote, sem JavaFX: java -cp Puzzle.jar puzzle.cli.LoteCLI [opções] [arquivo]
+public final class LoteCLI {
+    private static final int PARTICIPANTES_TORNEIO = 3;
+    private static final String USO = String.join("\n",
+            "Uso: java -cp Puzzle.jar puzzle.cli.LoteCLI [opções] [arquivo]",
+            "Lê um tabuleiro por linha (formato de toArray1D) do arquivo ou da entrada padrão.",
+            "  --motor genetico|ilhas|a-estrela|ida-estrela|tabela   (padrão: genetico)",
+            "  --heuristica manhattan|conflito-linear|padroes  (padrão: manhattan)",
+            "  --threads N          tabuleiros resolvidos em paralelo (padrão: núcleos disponíveis)",
+            "  --tempo-limite MS    limite por tabuleiro em milissegundos (padrão: sem limite)",
+            "  --crossover meio|um-ponto|dois-pontos|estado    (padrão: meio)",
+            "  --selecao roleta|alias|torneio|ranking          (padrão: roleta; torneio de 3)",
+            "  --adaptativo         ajusta mutação e crossover pela diversidade e injeta imigrantes na estagnação",
+            "  --max-avaliacoes N   para o algoritmo genético após N cálculos de fitness (padrão: sem limite)",
+            "  --estagnacao N       para após N gerações sem melhora (padrão: desligado)",
+            "  --fitness-alvo F     aceita soluções com fitness até F (padrão: 0, só a exata)",
+            "  --geracoes N         gerações máximas do algoritmo genético (padrão: 1000)",
+            "  --populacao N        tamanho da população (padrão: 500)",
+            "  --ilhas K            ilhas (threads) por tabuleiro no motor ilhas (padrão: 4)",
+            "  --migracao M         gerações entre migrações no motor ilhas (padrão: 25)",
+            "  --semente S          semente base; o tabuleiro da linha L usa S + L",
+            "  --cache N            guarda até N soluções do algoritmo genético (padrão: 0, desligado)",
+            "  --memo MB            memória de avaliação por tabuleiro em execução (padrão: 0, desligada)");
+
+    private String motor = "genetico";
+    private String heuristica = "manhattan";
+    private String crossover = "meio";
+    private String selecao = "roleta";
+    private boolean adaptativo;
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private long tempoLimite;
+    private long maxAvaliacoes;
+    private int janelaEstagnacao;
+    private double fitnessAlvo;
+    private int geracoes = 1000;
+    private int populacao = 500;
+    private int ilhas = 4;
+    private int intervaloMigracao = 25;
+    private Long semente;
+    private CacheSolucoes cache;
+    private int memoMegabytes;
+    private String arquivo;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoteCLI cli = new LoteCLI();
+        try {
+            cli.lerArgumentos(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USO);
+            System.exit(2);
+        }
+        System.exit(cli.executar() ? 0 : 1);
+    }
+
+    private void lerArgumentos(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            switch (arg) {
+                case "--motor":
+                    motor = valor(args, ++i, arg);
+                    break;
+                case "--heuristica":
+                    heuristica = valor(args, ++i, arg);
+                    break;
+                case "--crossover":
+                    crossover = valor(args, ++i, arg);
+                    break;
+                case "--selecao":
+                    selecao = valor(args, ++i, arg);
+                    break;
+                case "--adaptativo":
+                    adaptativo = true;
+                    break;
+                case "--threads":
+                    threads = inteiro(args, ++i, arg);
+                    break;
+                case "--tempo-limite":
+                    tempoLimite = inteiro(args, ++i, arg);
+                    break;
+                case "--max-avaliacoes":
+                    maxAvaliacoes = longo(args, ++i, arg);
+                    break;
+                case "--estagnacao":
+                    janelaEstagnacao = inteiro(args, ++i, arg);
+                    break;
+                case "--fitness-alvo":
+                    try {
+                        fitnessAlvo = Double.parseDouble(valor(args, ++i, arg));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Valor inválido para " + arg + ": " + args[i]);
+                    }
+                    break;
+                case "--geracoes":
+                    geracoes = inteiro(args, ++i, arg);
+                    break;
+                case "--populacao":
+                    populacao = inteiro(args, ++i, arg);
+                    break;
+                case "--ilhas":
+                    ilhas = inteiro(args, ++i, arg);
+                    break;
+                case "--migracao":
+                    intervaloMigracao = inteiro(args, ++i, arg);
+                    break;
+                case "--semente":
+                    try {
+                        semente = Long.parseLong(valor(args, ++i, arg));
+                    } catch (NumberFormatException e) {
+                        throw new IllegalArgumentException("Semente inválida: " + args[i]);
+                    }
+                    break;
+                case "--cache": {
+                    int capacidade = inteiro(args, ++i, arg);
+                    cache = capacidade > 0 ? new CacheSolucoes(capacidade) : null;
+                    break;
+                }
+                case "--memo":
+                    memoMegabytes = inteiro(args, ++i, arg);
+                    break;
+                case "-h":
+                case "--ajuda":
+                    System.out.println(USO);
+                    System.exit(0);
+                    break;
+                default:
+                    if (arg.startsWith("-") || arquivo != null) {
+                        throw new IllegalArgumentException("Argumento desconhecido: " + arg);
+                    }
+                    arquivo = arg;
+            }
+        }
+        criarHeuristica(PuzzleModel.DIMENSAO_PADRAO);
+        criarCrossover();
+        criarSelecao();
+        criarSolver(new PuzzleModel(), 0);
+    }
+
+    private static String valor(String[] args, int indice, String opcao) {
+        if (indice >= args.length) {
+            throw new IllegalArgumentException("Falta o valor de " + opcao);
+        }
+        return args[indice];
+    }
+
+    private static int inteiro(String[] args, int indice, String opcao) {
+        try {
+            return Integer.parseInt(valor(args, indice, opcao));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + opcao + ": " + args[indice]);
+        }
+    }
+
+    private static long longo(String[] args, int indice, String opcao) {
+        try {
+            return Long.parseLong(valor(args, indice, opcao));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + opcao + ": " + args[indice]);
+        }
+    }
+
+    private Heuristica criarHeuristica(int dimensao) {
+        switch (heuristica) {
+            case "manhattan":
+                return Heuristica.MANHATTAN;
+            case "conflito-linear":
+                return new HeuristicaConflitoLinear();
+            case "padroes":
+                return HeuristicaPadroes.padrao(dimensao);
+            default:
+                throw new IllegalArgumentException("Heurística desconhecida: " + heuristica);
+        }
+    }
+
+    private Crossover criarCrossover() {
+        switch (crossover) {
+            case "meio":
+                return Crossover.MEIO;
+            case "um-ponto":
+                return new CrossoverUmPonto();
+            case "dois-pontos":
+                return new CrossoverDoisPontos();
+            case "estado":
+                return new CrossoverEstado();
+            default:
+                throw new IllegalArgumentException("Crossover desconhecido: " + crossover);
+        }
+    }
+
+    // A seleção guarda o fitness da geração em preparar, então cada busca (e cada ilha) recebe a sua
+    private Selecao criarSelecao() {
+        switch (selecao) {
+            case "roleta":
+                return new SelecaoRoleta();
+            case "alias":
+                return new SelecaoRoletaAlias();
+            case "torneio":
+                return new SelecaoTorneio(PARTICIPANTES_TORNEIO);
+            case "ranking":
+                return new SelecaoRanking();
+            default:
+                throw new IllegalArgumentException("Seleção desconhecida: " + selecao);
+        }
+    }
+
+    private Solver criarSolver(PuzzleModel tabuleiro, long linha) {
+        switch (motor) {
+            case "genetico": {
+                AlgoritmoGenetico algoritmo = new AlgoritmoGenetico(tabuleiro);
+                // O paralelismo fica entre tabuleiros; cada busca usa uma única thread
+                algoritmo.setParalelismo(1);
+                algoritmo.setMaxGeracoes(geracoes);
+                // Com prazo próprio o motor informa a parada por prazo em vez de interrupção
+                algoritmo.setPrazo(tempoLimite);
+                algoritmo.setMaxAvaliacoes(maxAvaliacoes);
+                algoritmo.setJanelaEstagnacao(janelaEstagnacao);
+                algoritmo.setFitnessAlvo(fitnessAlvo);
+                algoritmo.setTamanhoPopulacao(populacao);
+                algoritmo.setHeuristica(criarHeuristica(tabuleiro.getDimensao()));
+                algoritmo.setSelecao(criarSelecao());
+                algoritmo.setCrossover(criarCrossover());
+                algoritmo.setControleAdaptativo(adaptativo ? new ControleAdaptativo() : null);
+                algoritmo.setCache(cache);
+                algoritmo.setLimiteMemo((long) memoMegabytes << 20);
+                if (semente != null) {
+                    algoritmo.setSemente(semente + linha);
+                }
+                return algoritmo;
+            }
+            case "ilhas": {
+                AlgoritmoGeneticoIlhas algoritmo = new AlgoritmoGeneticoIlhas(tabuleiro);
+                algoritmo.setNumeroIlhas(ilhas);
+                algoritmo.setIntervaloMigracao(intervaloMigracao);
+                algoritmo.setMaxGeracoes(geracoes);
+                algoritmo.setPrazo(tempoLimite);
+                algoritmo.setMaxAvaliacoes(maxAvaliacoes);
+                algoritmo.setJanelaEstagnacao(janelaEstagnacao);
+                algoritmo.setFitnessAlvo(fitnessAlvo);
+                algoritmo.setTamanhoPopulacao(populacao);
+                algoritmo.setHeuristica(criarHeuristica(tabuleiro.getDimensao()));
+                algoritmo.setSelecao(this::criarSelecao);
+                algoritmo.setCrossover(criarCrossover());
+                algoritmo.setControleAdaptativo(adaptativo ? new ControleAdaptativo() : null);
+                algoritmo.setLimiteMemo((long) memoMegabytes << 20);
+                if (semente != null) {
+                    algoritmo.setSemente(semente + linha);
+                }
+                return algoritmo;
+            }
+            case "a-estrela": {
+                SolverAEstrela solver = new SolverAEstrela(tabuleiro);
+                solver.setHeuristica(criarHeuristica(tabuleiro.getDimensao()));
+                return solver;
+            }
+            case "ida-estrela": {
+                SolverIDAEstrela solver = new SolverIDAEstrela(tabuleiro);
+                solver.setHeuristica(criarHeuristica(tabuleiro.getDimensao()));
+                return solver;
+            }
+            case "tabela":
+                return new SolverTabela(tabuleiro);
+            default:
+                throw new IllegalArgumentException("Motor desconhecido: " + motor);
+        }
+    }
+
+    private boolean executar() throws IOException, InterruptedException {
+        PrintStream saida = criarSaida();
+        long[] contagem = new long[2];
+        ResolvedorLote resolvedor = new ResolvedorLote(this::criarSolver, threads);
+        resolvedor.setTempoLimite(tempoLimite);
+
+        saida.println("linha\tstatus\tparada\tmovimentos\tfitness\tgeracoes\tavaliacoes\tnos\ttempo_ms\tsolucao");
+        long inicio = System.nanoTime();
+        long total;
+        try (BufferedReader entrada = arquivo == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(arquivo), StandardCharsets.UTF_8)) {
+            total = resolvedor.resolver(entrada, resultado -> {
+                saida.println(formatar(resultado));
+                saida.flush();
+                contagem[resultado.getResultado() != null && resultado.getResultado().isSolucionado() ? 0 : 1]++;
+            });
+        }
+        saida.flush();
+        System.err.printf(Locale.ROOT, "%d tabuleiros, %d resolvidos, %d não resolvidos em %.1f s%n",
+                total, contagem[0], contagem[1], (System.nanoTime() - inicio) / 1e9);
+        if (cache != null) {
+            System.err.println(cache);
+        }
+        return contagem[1] == 0;
+    }
+
+    private static PrintStream criarSaida() {
+        try {
+            return new PrintStream(System.out, false, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String formatar(ResultadoLote lote) {
+        if (lote.isErro()) {
+            return lote.getLinha() + "\terro\t\t\t\t\t\t\t\t" + lote.getErro();
+        }
+        ResultadoBusca resultado = lote.getResultado();
+        String status = resultado.isOtimo() ? "otimo" : resultado.isSolucionado() ? "resolvido" : "parcial";
+        return String.format(Locale.ROOT, "%d\t%s\t%s\t%d\t%.4f\t%d\t%d\t%d\t%.3f\t%s",
+                lote.getLinha(), status, resultado.getMotivoParada().name().toLowerCase(Locale.ROOT),
+                resultado.getTotalMovimentos(), resultado.getFitness(),
+                resultado.getGeracoes(), resultado.getAvaliacoes(), resultado.getNosExpandidos(),
+                resultado.getTempoNanos() / 1e6, String.join(",", resultado.getNomesMovimentos()));
+    }
+}
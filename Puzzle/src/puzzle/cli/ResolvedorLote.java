@@ -0,0 +1,122 @@
+package puzzle.cli;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import puzzle.model.PuzzleModel;
+import puzzle.model.ResultadoBusca;
+import puzzle.model.Solver;
+
+public final class ResolvedorLote {
+
+    public interface FabricaSolver {
+        Solver criar(PuzzleModel tabuleiro, long linha);
+    }
+
+    private final FabricaSolver fabrica;
+    private final int threads;
+    private int tarefasPorThread = 2;
+    private long tempoLimiteNanos;
+
+    public ResolvedorLote(FabricaSolver fabrica, int threads) {
+        this.fabrica = fabrica;
+        this.threads = Math.max(1, threads);
+    }
+
+    public void setTarefasPorThread(int tarefas) {
+        this.tarefasPorThread = Math.max(1, tarefas);
+    }
+
+    public void setTempoLimite(long milissegundos) {
+        this.tempoLimiteNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, milissegundos));
+    }
+
+    // Lê um tabuleiro por linha e entrega cada resultado assim que ele termina, na ordem de conclusão. No máximo
+    // threads * tarefasPorThread tabuleiros ficam em memória ao mesmo tempo, então a entrada pode ser arbitrariamente
+    // longa. Linhas vazias e começadas por '#' são ignoradas; linhas inválidas viram resultados com erro
+    public long resolver(BufferedReader entrada, Consumer<ResultadoLote> saida) throws IOException, InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads, tarefa -> {
+            Thread thread = new Thread(tarefa, "resolvedor-lote");
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<ResultadoLote> conclusoes = new ExecutorCompletionService<>(executor);
+        int limite = threads * tarefasPorThread;
+        int pendentes = 0;
+        long linha = 0;
+        long total = 0;
+        try {
+            String texto;
+            while ((texto = entrada.readLine()) != null) {
+                linha++;
+                texto = texto.trim();
+                if (texto.isEmpty() || texto.startsWith("#")) {
+                    continue;
+                }
+                total++;
+                int[] tabuleiro;
+                try {
+                    tabuleiro = lerTabuleiro(texto);
+                } catch (IllegalArgumentException e) {
+                    saida.accept(new ResultadoLote(linha, null, null, e.getMessage()));
+                    continue;
+                }
+                if (pendentes == limite) {
+                    saida.accept(proximo(conclusoes));
+                    pendentes--;
+                }
+                long numeroLinha = linha;
+                conclusoes.submit(() -> resolverTabuleiro(numeroLinha, tabuleiro));
+                pendentes++;
+            }
+            for (; pendentes > 0; pendentes--) {
+                saida.accept(proximo(conclusoes));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return total;
+    }
+
+    private ResultadoLote resolverTabuleiro(long linha, int[] tabuleiro) {
+        try {
+            Solver solver = fabrica.criar(PuzzleModel.deArray1D(tabuleiro), linha);
+            Supplier<Boolean> shouldStop;
+            if (tempoLimiteNanos > 0) {
+                long prazo = System.nanoTime() + tempoLimiteNanos;
+                shouldStop = () -> Thread.currentThread().isInterrupted() || System.nanoTime() - prazo >= 0;
+            } else {
+                shouldStop = () -> Thread.currentThread().isInterrupted();
+            }
+            ResultadoBusca resultado = solver.resolver(shouldStop);
+            return new ResultadoLote(linha, tabuleiro, resultado, null);
+        } catch (RuntimeException e) {
+            return new ResultadoLote(linha, tabuleiro, null, e.getMessage());
+        }
+    }
+
+    private static ResultadoLote proximo(CompletionService<ResultadoLote> conclusoes) throws InterruptedException {
+        try {
+            return conclusoes.take().get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falha ao resolver tabuleiro", e.getCause());
+        }
+    }
+
+    static int[] lerTabuleiro(String texto) {
+        String[] partes = texto.split("[\\s,;\\[\\]]+");
+        int inicio = partes.length > 0 && partes[0].isEmpty() ? 1 : 0;
+        int[] tabuleiro = new int[partes.length - inicio];
+        for (int i = 0; i < tabuleiro.length; i++) {
+            try {
+                tabuleiro[i] = Integer.parseInt(partes[inicio + i]);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor inválido: " + partes[inicio + i]);
+            }
+        }
+        PuzzleModel.deArray1D(tabuleiro);
+        return tabuleiro;
+    }
+}
@@ -0,0 +1,37 @@
+package puzzle.cli;
+
+import puzzle.model.ResultadoBusca;
+
+public final class ResultadoLote {
+    private final long linha;
+    private final int[] tabuleiro;
+    private final ResultadoBusca resultado;
+    private final String erro;
+
+    ResultadoLote(long linha, int[] tabuleiro, ResultadoBusca resultado, String erro) {
+        this.linha = linha;
+        this.tabuleiro = tabuleiro;
+        this.resultado = resultado;
+        this.erro = erro;
+    }
+
+    public long getLinha() {
+        return linha;
+    }
+
+    public int[] getTabuleiro() {
+        return tabuleiro == null ? null : tabuleiro.clone();
+    }
+
+    public ResultadoBusca getResultado() {
+        return resultado;
+    }
+
+    public String getErro() {
+        return erro;
+    }
+
+    public boolean isErro() {
+        return erro != null;
+    }
+}
@@ -8,10 +8,13 @@ import javafx.fxml.FXML;
 import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.util.Duration;
+import javafx.util.StringConverter;
 import puzzle.model.*;
 
 public class FXMLPuzzleController {
 
+    @FXML
+    private Label titulo_principal;
     @FXML
     private Label messageLabel;
     @FXML
@@ -25,6 +28,12 @@ public class FXMLPuzzleController {
     @FXML
     private Button reiniciaButton;
     @FXML
+    private ChoiceBox<String> cbMotor;
+    @FXML
+    private ChoiceBox<Integer> cbDimensao;
+    @FXML
+    private ChoiceBox<String> cbHeuristica;
+    @FXML
     private TextField txtNumeroGeracoes;
     @FXML
     private TextField txtTamanhoPopulacao;
@@ -35,6 +44,10 @@ public class FXMLPuzzleController {
     @FXML
     private TextField txtElitismo;
     @FXML
+    private CheckBox chkAdaptativo;
+    @FXML
+    private TextField txtSemente;
+    @FXML
     private Slider velocidadeSlider;
     @FXML
     private Label lblVelocidade;
@@ -50,24 +63,71 @@ public class FXMLPuzzleController {
     private PuzzleModel puzzleModel = new PuzzleModel();
     private volatile boolean pararBusca = false;
     private AlgoritmoGenetico algoritmoGenetico;
+    private volatile ResultadoBusca ultimoResultado;
+    private final MonitorBusca monitorConsole = new MonitorConsole(Verbosidade.GERACOES);
+    private final CacheSolucoes cacheSolucoes = new CacheSolucoes(CAPACIDADE_CACHE);
     private ScheduledExecutorService executorService;
     private Timeline timelineAnimacao;
     private Pane celulaAnimada;
     private int movimentoAtual = 0;
     private int geracaoAtual = 0;
-    private List<List<int[]>> historicoPorGeracao = new ArrayList<>();
-    private int geracaoAtualExibicao = 0;
+    private final Deque<AtualizacaoBusca> historicoAtualizacoes = new ArrayDeque<>();
+    private AtualizacaoBusca melhorAtualizacao;
+    private int atualizacoesExibidas = 0;
     private Thread buscaThread;
     private int velocidadeAnimacao = 600;
     private static final int DURACAO_PADRAO_ANIMACAO = 300;
+    private static final int LADO_TABULEIRO = 300;
+    private static final int FONTE_3X3 = 40;
+    private static final String[] CORES_3X3 = {
+        "#ff9999", "#ffcc99", "#ffff99", "#99ff99", "#99ccff", "#66ccff", "#99ffcc", "#ffccff"
+    };
+    private static final int LIMITE_HISTORICO = 32;
+    private static final int CAPACIDADE_CACHE = 1024;
+    private static final long LIMITE_MEMO = 16 << 20;
+    private static final int ATUALIZACOES_INICIAIS = 5;
+    private static final String MOTOR_GENETICO = "Algoritmo Genético";
+    private static final String MOTOR_ILHAS = "Algoritmo Genético (ilhas)";
+    private static final String MOTOR_A_ESTRELA = "A*";
+    private static final String MOTOR_IDA_ESTRELA = "IDA*";
+    private static final String MOTOR_TABELA = "Tabela de distâncias";
+    private static final String HEURISTICA_MANHATTAN = "Manhattan";
+    private static final String HEURISTICA_CONFLITO_LINEAR = "Conflito linear";
+    private static final String HEURISTICA_PADROES = "Banco de padrões";
     private volatile boolean animacaoEmAndamento = false;
 
     @FXML
     public void initialize() {
+        construirGrade();
         puzzleModel.embaralhar();
         atualizarTabuleiroNaTela();
         algoritmoGenetico = new AlgoritmoGenetico(puzzleModel);
 
+        cbDimensao.getItems().setAll(3, 4, 5);
+        cbDimensao.setConverter(new StringConverter<Integer>() {
+            @Override
+            public String toString(Integer dimensao) {
+                return dimensao == null ? "" : dimensao + "×" + dimensao;
+            }
+
+            @Override
+            public Integer fromString(String texto) {
+                return Integer.valueOf(texto.substring(0, texto.indexOf('×')));
+            }
+        });
+        cbDimensao.setValue(puzzleModel.getDimensao());
+        cbDimensao.valueProperty().addListener((obs, oldVal, newVal) -> {
+            if (newVal != null && newVal != puzzleModel.getDimensao()) {
+                alterarDimensao(newVal);
+            }
+        });
+
+        cbMotor.getItems().setAll(MOTOR_GENETICO, MOTOR_ILHAS, MOTOR_A_ESTRELA, MOTOR_IDA_ESTRELA, MOTOR_TABELA);
+        cbMotor.setValue(MOTOR_GENETICO);
+
+        cbHeuristica.getItems().setAll(HEURISTICA_MANHATTAN, HEURISTICA_CONFLITO_LINEAR, HEURISTICA_PADROES);
+        cbHeuristica.setValue(HEURISTICA_MANHATTAN);
+
         velocidadeSlider.setMin(300);
         velocidadeSlider.setValue(600);
         velocidadeSlider.valueProperty().addListener((obs, oldVal, newVal) -> {
@@ -86,56 +146,34 @@ public class FXMLPuzzleController {
         limparAnimacoes();
         goButton.setDisable(true);
         reiniciaButton.setDisable(true);
+        cbDimensao.setDisable(true);
         pararButton.setDisable(false);
         pararBusca = false;
         movimentoAtual = 0;
         geracaoAtual = 0;
-        geracaoAtualExibicao = 0;
-        historicoPorGeracao.clear();
+        limparHistorico();
         infoContainer.setVisible(false);
 
         messageLabel.setText("Buscando solução...");
         messageLabel.setStyle("-fx-text-fill: blue; -fx-font-weight: bold;");
         lblGeracaoAtual.setText("Geração: 0");
 
-        try {
-            int numeroGeracoes = Integer.parseInt(txtNumeroGeracoes.getText());
-            int tamanhoPopulacao = Integer.parseInt(txtTamanhoPopulacao.getText());
-            double taxaMutacao = Double.parseDouble(txtTaxaMutacao.getText());
-            double taxaCrossover = Double.parseDouble(txtTaxaCrossover.getText());
-            double taxaElitismo = Double.parseDouble(txtElitismo.getText());
-
-            if (taxaElitismo <= 0 || taxaElitismo > 100) {
-                throw new IllegalArgumentException("Taxa de elitismo deve ser entre 0.1 e 100%");
-            }
+        ultimoResultado = null;
 
-            algoritmoGenetico = new AlgoritmoGenetico(puzzleModel);
-            algoritmoGenetico.setTaxaMutacao(taxaMutacao);
-            algoritmoGenetico.setTaxaCrossover(taxaCrossover);
-            algoritmoGenetico.setTaxaElitismo(taxaElitismo / 100.0);
+        try {
+            Solver solver = criarSolver();
 
             buscaThread = new Thread(() -> {
                 try {
-                    algoritmoGenetico.setAtualizacaoUI((geracao, historicoGeracao) -> {
-                        Platform.runLater(() -> {
-                            if (!historicoPorGeracao.isEmpty() && historicoPorGeracao.size() >= geracao) {
-                                historicoPorGeracao.set(geracao - 1, historicoGeracao);
-                            } else {
-                                historicoPorGeracao.add(historicoGeracao);
-                            }
-
-                            if (geracao == 1) {
-                                mostrarMovimentosDaGeracao(0);
-                            }
-                        });
-                    });
-
-                    int[] resultado = algoritmoGenetico.resolver(numeroGeracoes, tamanhoPopulacao, () -> pararBusca);
+                    ResultadoBusca resultado = solver.resolver(() -> pararBusca);
 
                     Platform.runLater(() -> {
                         if (!pararBusca) {
-                            if (!Arrays.equals(resultado, new int[]{0, 1, 2, 3, 4, 5, 6, 7, 8})) {
-                                puzzleModel.fromArray1D(resultado);
+                            ultimoResultado = resultado;
+                            if (!(solver instanceof AlgoritmoGenetico || solver instanceof AlgoritmoGeneticoIlhas)) {
+                                registrarAtualizacao(resultado.getAtualizacao());
+                            } else if (!resultado.isSolucionado()) {
+                                puzzleModel.fromArray1D(resultado.getTabuleiroFinal());
                             }
                             finalizarBusca();
                         }
@@ -163,6 +201,86 @@ public class FXMLPuzzleController {
         }
     }
 
+    private Solver criarSolver() {
+        String motor = cbMotor.getValue();
+        Heuristica heuristica = criarHeuristica();
+        if (MOTOR_A_ESTRELA.equals(motor)) {
+            SolverAEstrela solver = new SolverAEstrela(puzzleModel);
+            solver.setHeuristica(heuristica);
+            return solver;
+        }
+        if (MOTOR_IDA_ESTRELA.equals(motor)) {
+            SolverIDAEstrela solver = new SolverIDAEstrela(puzzleModel);
+            solver.setHeuristica(heuristica);
+            return solver;
+        }
+        if (MOTOR_TABELA.equals(motor)) {
+            return new SolverTabela(puzzleModel);
+        }
+
+        int numeroGeracoes = Integer.parseInt(txtNumeroGeracoes.getText());
+        int tamanhoPopulacao = Integer.parseInt(txtTamanhoPopulacao.getText());
+        double taxaMutacao = Double.parseDouble(txtTaxaMutacao.getText());
+        double taxaCrossover = Double.parseDouble(txtTaxaCrossover.getText());
+        double taxaElitismo = Double.parseDouble(txtElitismo.getText());
+
+        if (taxaElitismo <= 0 || taxaElitismo > 100) {
+            throw new IllegalArgumentException("Taxa de elitismo deve ser entre 0.1 e 100%");
+        }
+
+        if (MOTOR_ILHAS.equals(motor)) {
+            AlgoritmoGeneticoIlhas ilhas = new AlgoritmoGeneticoIlhas(puzzleModel);
+            ilhas.setMaxGeracoes(numeroGeracoes);
+            ilhas.setTamanhoPopulacao(tamanhoPopulacao);
+            ilhas.setTaxaMutacao(taxaMutacao);
+            ilhas.setTaxaCrossover(taxaCrossover);
+            ilhas.setTaxaElitismo(taxaElitismo / 100.0);
+            ilhas.setHeuristica(heuristica);
+            ilhas.setMonitor(monitorConsole);
+            ilhas.setLimiteMemo(LIMITE_MEMO);
+            ilhas.setControleAdaptativo(chkAdaptativo.isSelected() ? new ControleAdaptativo() : null);
+            Long semente = lerSemente();
+            if (semente != null) {
+                ilhas.setSemente(semente);
+            }
+            txtSemente.setPromptText("Última: " + ilhas.getSemente());
+            ilhas.setAtualizacaoUI(atualizacao -> Platform.runLater(() -> registrarAtualizacao(atualizacao)));
+            return ilhas;
+        }
+
+        algoritmoGenetico = new AlgoritmoGenetico(puzzleModel);
+        algoritmoGenetico.setMaxGeracoes(numeroGeracoes);
+        algoritmoGenetico.setTamanhoPopulacao(tamanhoPopulacao);
+        algoritmoGenetico.setTaxaMutacao(taxaMutacao);
+        algoritmoGenetico.setTaxaCrossover(taxaCrossover);
+        algoritmoGenetico.setTaxaElitismo(taxaElitismo / 100.0);
+        algoritmoGenetico.setHeuristica(heuristica);
+        algoritmoGenetico.setMonitor(monitorConsole);
+        algoritmoGenetico.setCache(cacheSolucoes);
+        algoritmoGenetico.setLimiteMemo(LIMITE_MEMO);
+        algoritmoGenetico.setControleAdaptativo(chkAdaptativo.isSelected() ? new ControleAdaptativo() : null);
+        Long semente = lerSemente();
+        if (semente != null) {
+            algoritmoGenetico.setSemente(semente);
+        }
+        txtSemente.setPromptText("Última: " + algoritmoGenetico.getSemente());
+        algoritmoGenetico.setAtualizacaoUI(atualizacao ->
+                Platform.runLater(() -> registrarAtualizacao(atualizacao)));
+        return algoritmoGenetico;
+    }
+
+    // O banco de padrões só é carregado (ou construído) na primeira estimativa, já na thread da busca
+    private Heuristica criarHeuristica() {
+        String heuristica = cbHeuristica.getValue();
+        if (HEURISTICA_CONFLITO_LINEAR.equals(heuristica)) {
+            return new HeuristicaConflitoLinear();
+        }
+        if (HEURISTICA_PADROES.equals(heuristica)) {
+            return HeuristicaPadroes.padrao(puzzleModel.getDimensao());
+        }
+        return Heuristica.MANHATTAN;
+    }
+
     @FXML
     public void pararBusca() {
         pararBusca = true;
@@ -182,7 +300,19 @@ public class FXMLPuzzleController {
     @FXML
     public void reiniciarTabuleiro() {
         limparAnimacoes();
-        puzzleModel.embaralhar();
+        Long semente;
+        try {
+            semente = lerSemente();
+        } catch (NumberFormatException e) {
+            messageLabel.setText("Semente inválida!");
+            messageLabel.setStyle("-fx-text-fill: red; -fx-font-weight: bold;");
+            return;
+        }
+        if (semente != null) {
+            puzzleModel.embaralhar(new SplittableRandom(semente));
+        } else {
+            puzzleModel.embaralhar();
+        }
         algoritmoGenetico = new AlgoritmoGenetico(puzzleModel);
         atualizarTabuleiroNaTela();
         messageLabel.setText("");
@@ -201,28 +331,92 @@ public class FXMLPuzzleController {
         pararBusca = false;
         movimentoAtual = 0;
         geracaoAtual = 0;
-        geracaoAtualExibicao = 0;
-        historicoPorGeracao.clear();
+        limparHistorico();
+    }
+
+    private void alterarDimensao(int dimensao) {
+        limparAnimacoes();
+        puzzleModel = new PuzzleModel(dimensao);
+        construirGrade();
+        reiniciarTabuleiro();
+    }
+
+    private void construirGrade() {
+        int dimensao = puzzleModel.getDimensao();
+        double lado = (double) LADO_TABULEIRO / dimensao;
+        gridPane.getChildren().clear();
+        for (int pos = 0; pos < puzzleModel.getTotalCelulas(); pos++) {
+            Label label = new Label();
+            label.getStyleClass().add("grid-number");
+            label.setPrefSize(lado, lado);
+            label.setStyle("-fx-font-size: " + FONTE_3X3 * 3 / dimensao + "px;");
+            Pane cell = new Pane(label);
+            cell.getStyleClass().add("grid-cell");
+            GridPane.setRowIndex(cell, pos / dimensao);
+            GridPane.setColumnIndex(cell, pos % dimensao);
+            gridPane.getChildren().add(cell);
+        }
+        titulo_principal.setText((puzzleModel.getTotalCelulas() - 1) + "-Puzzle");
+    }
+
+    private Long lerSemente() {
+        String texto = txtSemente.getText() == null ? "" : txtSemente.getText().trim();
+        return texto.isEmpty() ? null : Long.parseLong(texto);
+    }
+
+    private void limparHistorico() {
+        atualizacoesExibidas = 0;
+        historicoAtualizacoes.clear();
+        melhorAtualizacao = null;
+    }
+
+    private void registrarAtualizacao(AtualizacaoBusca atualizacao) {
+        if (historicoAtualizacoes.size() == LIMITE_HISTORICO) {
+            historicoAtualizacoes.removeFirst();
+        }
+        historicoAtualizacoes.addLast(atualizacao);
+        if (melhorAtualizacao == null || atualizacao.getFitness() < melhorAtualizacao.getFitness()) {
+            melhorAtualizacao = atualizacao;
+        }
+        if (atualizacoesExibidas == 0 && !animacaoEmAndamento) {
+            mostrarMovimentos(atualizacao);
+        }
+    }
+
+    private AtualizacaoBusca proximaAtualizacao(AtualizacaoBusca atual) {
+        if (atualizacoesExibidas < ATUALIZACOES_INICIAIS) {
+            for (AtualizacaoBusca atualizacao : historicoAtualizacoes) {
+                if (atualizacao.getGeracao() > atual.getGeracao()) {
+                    return atualizacao;
+                }
+            }
+        }
+        if (melhorAtualizacao != null && melhorAtualizacao.getGeracao() > atual.getGeracao()) {
+            return melhorAtualizacao;
+        }
+        return null;
     }
 
-    private void mostrarMovimentosDaGeracao(int indiceGeracao) {
-        if (pararBusca || indiceGeracao >= historicoPorGeracao.size()) {
+    private void mostrarMovimentos(AtualizacaoBusca atualizacao) {
+        if (pararBusca) {
             return;
         }
 
         animacaoEmAndamento = true;
+        int indiceExibicao = atualizacoesExibidas++;
+        int geracao = atualizacao.getGeracao();
         Platform.runLater(() -> pararButton.setDisable(false));
 
+        List<int[]> movimentos = atualizacao.expandir();
+
         Platform.runLater(() -> {
-            geracaoAtualExibicao = indiceGeracao;
-            atualizarCorGeracao(indiceGeracao);
+            atualizarCorGeracao(indiceExibicao);
             puzzleModel.reset();
             atualizarTabuleiroNaTela();
-            lblGeracaoAtual.setText("Geração: " + (indiceGeracao + 1)
-                    + " | Movimento: 0/" + (historicoPorGeracao.get(indiceGeracao).size() - 1));
+            lblGeracaoAtual.setText("Geração: " + geracao
+                    + " | Movimento: 0/" + (movimentos.size() - 1));
         });
 
-        List<int[]> movimentos = historicoPorGeracao.get(indiceGeracao);
         movimentoAtual = 1;
 
         limparExecutorService();
@@ -235,51 +429,31 @@ public class FXMLPuzzleController {
                     puzzleModel.fromArray1D(movimentos.get(movimentos.size() - 1));
                     atualizarTabuleiroNaTela();
 
-                    lblGeracaoAtual.setText("Geração: " + (indiceGeracao + 1)
+                    lblGeracaoAtual.setText("Geração: " + geracao
                             + " | Movimento: " + (movimentos.size() - 1)
                             + "/" + (movimentos.size() - 1));
 
                     animacaoEmAndamento = false;
 
-                    if (indiceGeracao < 4) {
-                        mostrarMovimentosDaGeracao(indiceGeracao + 1);
-                    } else if (indiceGeracao == 4) {
-                        int melhorGeracao = algoritmoGenetico.getGeracaoEncontrada();
-                        if (melhorGeracao > 4 && melhorGeracao < historicoPorGeracao.size()) {
-                            mostrarMovimentosDaGeracao(melhorGeracao);
-                        } else {
-                            finalizarBusca();
-                        }
+                    AtualizacaoBusca proxima = proximaAtualizacao(atualizacao);
+                    if (proxima != null) {
+                        mostrarMovimentos(proxima);
                     } else {
                         finalizarBusca();
                     }
                     return;
                 }
 
+                // Os genes chegam normalizados, então cada passo muda o tabuleiro
                 int[] estadoAtual = puzzleModel.toArray1D();
-                int[] proximoEstadoValido = null;
-                int movimentosPulados = 0;
-
-                while (movimentoAtual < movimentos.size() && proximoEstadoValido == null) {
-                    int[] tentativaEstado = movimentos.get(movimentoAtual);
-                    if (!Arrays.equals(estadoAtual, tentativaEstado)) {
-                        proximoEstadoValido = tentativaEstado;
-                    } else {
-                        movimentosPulados++;
-                        movimentoAtual++;
-                    }
-                }
-
-                if (proximoEstadoValido != null) {
-                    animarMovimento(estadoAtual, proximoEstadoValido);
-                    puzzleModel.fromArray1D(proximoEstadoValido);
-
-                    lblGeracaoAtual.setText("Geração: " + (indiceGeracao + 1)
-                            + " | Movimento: " + movimentoAtual
-                            + "/" + (movimentos.size() - 1)
-                            + (movimentosPulados > 0 ? " | Pulados: " + movimentosPulados : ""));
-                    movimentoAtual++;
-                }
+                int[] proximoEstado = movimentos.get(movimentoAtual);
+                animarMovimento(estadoAtual, proximoEstado);
+                puzzleModel.fromArray1D(proximoEstado);
+
+                lblGeracaoAtual.setText("Geração: " + geracao
+                        + " | Movimento: " + movimentoAtual
+                        + "/" + (movimentos.size() - 1));
+                movimentoAtual++;
             });
         }, 0, velocidadeAnimacao, TimeUnit.MILLISECONDS);
     }
@@ -306,14 +480,15 @@ public class FXMLPuzzleController {
         Pane celulaDestino = (Pane) gridPane.getChildren().get(posVaziaAtual);
 
         celulaAnimada = criarCopiaCelula(celulaOrigem);
-        GridPane.setRowIndex(celulaAnimada, posPecaMovida / 3);
-        GridPane.setColumnIndex(celulaAnimada, posPecaMovida % 3);
+        int dimensao = puzzleModel.getDimensao();
+        GridPane.setRowIndex(celulaAnimada, posPecaMovida / dimensao);
+        GridPane.setColumnIndex(celulaAnimada, posPecaMovida % dimensao);
         gridPane.getChildren().add(celulaAnimada);
 
         celulaOrigem.setVisible(false);
 
-        double deslocX = (posVaziaAtual % 3 - posPecaMovida % 3) * celulaOrigem.getWidth();
-        double deslocY = (posVaziaAtual / 3 - posPecaMovida / 3) * celulaOrigem.getHeight();
+        double deslocX = (posVaziaAtual % dimensao - posPecaMovida % dimensao) * celulaOrigem.getWidth();
+        double deslocY = (posVaziaAtual / dimensao - posPecaMovida / dimensao) * celulaOrigem.getHeight();
 
         timelineAnimacao = new Timeline(
                 new KeyFrame(Duration.ZERO,
@@ -341,44 +516,15 @@ public class FXMLPuzzleController {
     }
 
     private void atualizarPosicoesFinais(int[] tabuleiro) {
-        for (int i = 0; i < 9; i++) {
+        double lado = (double) LADO_TABULEIRO / puzzleModel.getDimensao();
+        for (int i = 0; i < tabuleiro.length; i++) {
             Pane cell = (Pane) gridPane.getChildren().get(i);
             Label label = (Label) cell.getChildren().get(0);
             int valor = tabuleiro[i];
             label.setText(valor == 0 ? "" : String.valueOf(valor));
 
-            String corFundo;
-            switch (valor) {
-                case 1:
-                    corFundo = "#ff9999";
-                    break;
-                case 2:
-                    corFundo = "#ffcc99";
-                    break;
-                case 3:
-                    corFundo = "#ffff99";
-                    break;
-                case 4:
-                    corFundo = "#99ff99";
-                    break;
-                case 5:
-                    corFundo = "#99ccff";
-                    break;
-                case 6:
-                    corFundo = "#66ccff";
-                    break;
-                case 7:
-                    corFundo = "#99ffcc";
-                    break;
-                case 8:
-                    corFundo = "#ffccff";
-                    break;
-                default:
-                    corFundo = "#e0e0e0";
-                    break;
-            }
-
-            cell.setStyle("-fx-background-color: " + corFundo + "; -fx-border-color: #ddd;");
+            cell.setStyle("-fx-background-color: " + corDaPeca(valor, tabuleiro.length)
+                    + "; -fx-border-color: #ddd; -fx-pref-width: " + lado + "px; -fx-pref-height: " + lado + "px;");
             cell.setVisible(true);
 
             label.setOpacity(0);
@@ -390,49 +536,63 @@ public class FXMLPuzzleController {
         }
     }
 
+    // O 3×3 mantém a paleta original; tabuleiros maiores distribuem as peças pelo círculo de matizes
+    private static String corDaPeca(int valor, int celulas) {
+        if (valor == 0) {
+            return "#e0e0e0";
+        }
+        if (valor <= CORES_3X3.length && celulas == CORES_3X3.length + 1) {
+            return CORES_3X3[valor - 1];
+        }
+        return "hsb(" + 360 * (valor - 1) / (celulas - 1) + ", 40%, 100%)";
+    }
+
     private void finalizarBusca() {
-        try {
-            Cromossomo melhor = algoritmoGenetico.getMelhorGlobal();
-            boolean solucaoOtima = melhor.getFitness() == 0.0; // Verifica se fitness é zero (solução ótima)
+        ResultadoBusca resultado = ultimoResultado;
+        if (resultado == null) {
+            return;
+        }
+        boolean solucaoOtima = resultado.isSolucionado();
+        boolean genetico = resultado.getMotor().startsWith(MOTOR_GENETICO);
 
-            Platform.runLater(() -> {
-                infoContainer.setVisible(true);
-
-                if (geracaoAtualExibicao > 4) {
-                    lblGeracaoAtual.getStyleClass().removeAll(
-                            "generation-0", "generation-1", "generation-2",
-                            "generation-3", "generation-4");
-                    lblGeracaoAtual.getStyleClass().add("generation-solution");
-                    lblGeracaoAtual.setText("★ Melhor Geração: " + (algoritmoGenetico.getGeracaoEncontrada() + 1) + " ★");
-                }
+        Platform.runLater(() -> {
+            infoContainer.setVisible(true);
+
+            if (atualizacoesExibidas > ATUALIZACOES_INICIAIS) {
+                lblGeracaoAtual.getStyleClass().removeAll(
+                        "generation-0", "generation-1", "generation-2",
+                        "generation-3", "generation-4");
+                lblGeracaoAtual.getStyleClass().add("generation-solution");
+                lblGeracaoAtual.setText("★ Melhor Geração: " + (resultado.getGeracaoEncontrada() + 1) + " ★");
+            }
 
-                lblMelhorFitness.setText(String.format("%.4f", melhor.getFitness()));
-                lblTotalMovimentos.setText(String.valueOf(melhor.getMovimentos().size()));
-                lblGeracaoEncontrada.setText(String.valueOf(algoritmoGenetico.getGeracaoEncontrada() + 1));
-
-                if (solucaoOtima) {
-                    messageLabel.setText("Solução ótima encontrada!");
-                    messageLabel.setStyle("-fx-text-fill: green; -fx-font-weight: bold;");
-                    infoContainer.getStyleClass().add("solucao-otima");
-                    lblGeracaoAtual.getStyleClass().add("generation-solution");
-                } else {
-                    messageLabel.setText("Melhor solução encontrada (não ótima)");
-                    messageLabel.setStyle("-fx-text-fill: orange; -fx-font-weight: bold;");
-                    infoContainer.getStyleClass().remove("solucao-otima");
-                }
+            lblMelhorFitness.setText(String.format("%.4f", resultado.getFitness()));
+            lblTotalMovimentos.setText(String.valueOf(resultado.getTotalMovimentos()));
+            lblGeracaoEncontrada.setText(genetico ? String.valueOf(resultado.getGeracaoEncontrada() + 1) : "—");
+
+            if (solucaoOtima) {
+                messageLabel.setText(resultado.isDoCache() ? "Solução recuperada do cache!"
+                        : genetico ? "Solução ótima encontrada!"
+                        : "Solução ótima encontrada (" + resultado.getMotor() + ", "
+                        + resultado.getNosExpandidos() + " nós expandidos)");
+                messageLabel.setStyle("-fx-text-fill: green; -fx-font-weight: bold;");
+                infoContainer.getStyleClass().add("solucao-otima");
+                lblGeracaoAtual.getStyleClass().add("generation-solution");
+            } else {
+                messageLabel.setText(genetico
+                        ? "Melhor solução encontrada (não ótima, parada: " + resultado.getMotivoParada() + ")"
+                        : "Nenhuma solução encontrada");
+                messageLabel.setStyle("-fx-text-fill: orange; -fx-font-weight: bold;");
+                infoContainer.getStyleClass().remove("solucao-otima");
+            }
 
-                if (!animacaoEmAndamento) {
-                    pararButton.setDisable(true);
-                }
-                goButton.setDisable(false);
-                reiniciaButton.setDisable(false);
-            });
-        } catch (Exception e) {
-            Platform.runLater(() -> {
-                messageLabel.setText("Erro ao verificar solução: " + e.getMessage());
-                messageLabel.setStyle("-fx-text-fill: red; -fx-font-weight: bold;");
-            });
-        }
+            if (!animacaoEmAndamento) {
+                pararButton.setDisable(true);
+            }
+            goButton.setDisable(false);
+            reiniciaButton.setDisable(false);
+            cbDimensao.setDisable(false);
+        });
     }
 
     private void atualizarCorGeracao(int numeroGeracao) {
@@ -466,6 +626,7 @@ public class FXMLPuzzleController {
         Platform.runLater(() -> {
             goButton.setDisable(false);
             reiniciaButton.setDisable(false);
+            cbDimensao.setDisable(false);
         });
     }
 
@@ -486,7 +647,7 @@ public class FXMLPuzzleController {
             celulaAnimada = null;
         }
 
-        for (int i = 0; i < 9; i++) {
+        for (int i = 0; i < puzzleModel.getTotalCelulas(); i++) {
             Pane cell = (Pane) gridPane.getChildren().get(i);
             cell.setVisible(true);
             Label label = (Label) cell.getChildren().get(0);
@@ -553,8 +714,9 @@ public class FXMLPuzzleController {
     }
 
     private boolean saoAdjacentes(int pos1, int pos2) {
-        int linha1 = pos1 / 3, coluna1 = pos1 % 3;
-        int linha2 = pos2 / 3, coluna2 = pos2 % 3;
+        int dimensao = puzzleModel.getDimensao();
+        int linha1 = pos1 / dimensao, coluna1 = pos1 % dimensao;
+        int linha2 = pos2 / dimensao, coluna2 = pos2 % dimensao;
 
         return (Math.abs(linha1 - linha2) == 1 && coluna1 == coluna2)
                 || (Math.abs(coluna1 - coluna2) == 1 && linha1 == linha2);
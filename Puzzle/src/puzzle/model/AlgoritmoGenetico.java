@@ -1,18 +1,72 @@
 package puzzle.model;
 
 import java.util.*;
-import java.util.function.BiConsumer;
+import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
-public final class AlgoritmoGenetico {
+public final class AlgoritmoGenetico implements Solver {
     private final PuzzleModel tabuleiroInicial;
     private double taxaMutacao;
     private double taxaCrossover;
     private double taxaElitismo;
-    private BiConsumer<Integer, List<int[]>> atualizacaoUI;
-    private final Random random = new Random();
+    private int maxGeracoes = 1000;
+    private long prazoNanos;
+    private long maxAvaliacoes;
+    private int janelaEstagnacao;
+    private double fitnessAlvo;
+    private MotivoParada motivoParada;
+    private int tamanhoPopulacao = 500;
+    private Consumer<AtualizacaoBusca> atualizacaoUI;
+    private int intervaloAtualizacaoUI = 100;
+    private MonitorBusca monitor = MonitorBusca.NULO;
+    private Selecao selecao = new SelecaoRoleta();
+    private Crossover crossover = Crossover.MEIO;
+    private Heuristica heuristica = Heuristica.MANHATTAN;
+    private CacheSolucoes cache;
+    private CacheSolucoes.Solucao solucaoCache;
+    private boolean respostaDoCache;
+    private long limiteMemo;
+    private MemoAvaliacao memo;
+    private Migracao migracao;
+    private ControleAdaptativo controle;
+    private double taxaMutacaoAtual;
+    private double taxaCrossoverAtual;
+    private boolean sobPressao;
+    private int ultimaImigracao;
+    private int totalAjustes;
+    private long totalImigrantes;
+    private final MapaEstados estadosFinais = new MapaEstados(1024);
+    // Um tabuleiro de trabalho e o melhor índice por bloco da avaliação, reaproveitados a cada geração
+    private PuzzleModel[] rascunhos = new PuzzleModel[0];
+    private int[] melhorDoBloco = new int[0];
+    private int[] calculosDoBloco = new int[0];
+    private int paralelismo = Runtime.getRuntime().availableProcessors();
+    private ExecutorService executor;
+    private ExecutorService executorAtivo;
+    private long semente = new SplittableRandom().nextLong();
+    private SplittableRandom random;
     private Cromossomo melhorGlobal;
     private int geracaoEncontrada = 0;
+    private int geracoesExecutadas = 0;
+    // Avaliações contam cada chamada a avaliar, uma por indivíduo e geração quando nada se perde nem se repete;
+    // cálculos, só as que não tinham fitness e a calcularam. O limite de avaliações usa os cálculos
+    private long totalAvaliacoes = 0;
+    private int avaliacoesUltimaGeracao = 0;
+    private long totalCalculos = 0;
+    private int calculosUltimaGeracao = 0;
+
+    private static final int TAMANHO_BLOCO = 256;
+
+    private interface TarefaBloco {
+        int executar(int inicio, int fim, SplittableRandom random);
+    }
+
+    // Chamada a cada geração com a população avaliada, em qualquer ordem; trocas feitas com Cromossomo.copiar já
+    // atualizam o fitness da posição
+    interface Migracao {
+        void migrar(int geracao, Populacao populacao);
+    }
 
     public AlgoritmoGenetico(PuzzleModel tabuleiroInicial) {
         this.tabuleiroInicial = tabuleiroInicial.copia();
@@ -33,179 +87,532 @@ public final class AlgoritmoGenetico {
         this.taxaElitismo = Math.max(0.01, Math.min(1.0, taxa));
     }
 
-    public void setAtualizacaoUI(BiConsumer<Integer, List<int[]>> callback) {
-        this.atualizacaoUI = callback;
+    public void setMaxGeracoes(int maxGeracoes) {
+        this.maxGeracoes = Math.max(1, maxGeracoes);
     }
 
-    public int[] resolver(int maxGeracoes, int tamanhoPopulacao, Supplier<Boolean> shouldStop) {
-        System.out.println("\n╔════════════════════════════════════╗");
-        System.out.println("║       ALGORITMO GENÉTICO 8-PUZZLE    ║");
-        System.out.println("╚════════════════════════════════════╝");
+    // Critérios de parada além do limite de gerações; 0 desliga cada um. Prazo e avaliações são conferidos no início
+    // de cada geração, então a última geração pode passar um pouco do limite
+    public void setPrazo(long milissegundos) {
+        this.prazoNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, milissegundos));
+    }
 
-        System.out.println("\n▬▬▬ CONFIGURAÇÃO INICIAL ▬▬▬");
-        System.out.println("▸ Gerações máximas: " + maxGeracoes);
-        System.out.println("▸ Tamanho população: " + tamanhoPopulacao);
-        System.out.println("▸ Taxa de mutação: " + (taxaMutacao * 100) + "%");
-        System.out.println("▸ Taxa de crossover: " + (taxaCrossover * 100) + "%");
-        System.out.println("▸ Taxa de elitismo: " + (taxaElitismo * 100) + "%");
+    public void setMaxAvaliacoes(long avaliacoes) {
+        this.maxAvaliacoes = Math.max(0, avaliacoes);
+    }
 
-        System.out.println("\n▬▬▬ TABULEIRO INICIAL ▬▬▬");
-        imprimirTabuleiro(tabuleiroInicial.toArray1D());
+    public void setJanelaEstagnacao(int geracoes) {
+        this.janelaEstagnacao = Math.max(0, geracoes);
+    }
 
-        List<Cromossomo> populacao = new ArrayList<>();
-        for (int i = 0; i < tamanhoPopulacao; i++) {
-            populacao.add(new Cromossomo(tabuleiroInicial));
-        }
+    // Para assim que o melhor fitness ficar menor ou igual ao alvo; com 0 só a solução exata encerra
+    public void setFitnessAlvo(double fitness) {
+        this.fitnessAlvo = Math.max(0, fitness);
+    }
 
-        melhorGlobal = null;
-        geracaoEncontrada = 0;
+    public void setTamanhoPopulacao(int tamanhoPopulacao) {
+        this.tamanhoPopulacao = Math.max(2, tamanhoPopulacao);
+    }
 
-        for (int geracao = 0; geracao < maxGeracoes; geracao++) {
-            if (shouldStop.get()) {
-                System.out.println("\n⏹ Busca interrompida pelo usuário");
-                break;
-            }
+    public void setSelecao(Selecao selecao) {
+        this.selecao = Objects.requireNonNull(selecao);
+    }
 
-            System.out.println("\n══════ GERAÇÃO " + (geracao + 1) + " ══════");
+    public void setCrossover(Crossover crossover) {
+        this.crossover = Objects.requireNonNull(crossover);
+    }
 
-            populacao.forEach(Cromossomo::calcularFitness);
-            populacao.sort(Comparator.comparingDouble(Cromossomo::getFitness));
-            Cromossomo melhor = populacao.get(0);
+    // null mantém as taxas fixas durante toda a execução
+    public void setControleAdaptativo(ControleAdaptativo controle) {
+        this.controle = controle;
+    }
 
-            if (melhorGlobal == null || melhor.getFitness() < melhorGlobal.getFitness()) {
-                melhorGlobal = melhor;
-                melhorGlobal.setGeracaoEncontrada(geracao);
-                geracaoEncontrada = geracao;
-            }
+    public void setHeuristica(Heuristica heuristica) {
+        this.heuristica = Objects.requireNonNull(heuristica);
+    }
+
+    // Cache compartilhado entre buscas: uma solução conhecida encerra a busca na hora, e uma parcial entra na
+    // população inicial
+    public void setCache(CacheSolucoes cache) {
+        this.cache = cache;
+    }
+
+    // Memória da execução (blocos de genes já reproduzidos e valores da heurística), limitada a este número de
+    // bytes; 0 desliga
+    public void setLimiteMemo(long bytes) {
+        this.limiteMemo = Math.max(0, bytes);
+    }
+
+    void setMigracao(Migracao migracao) {
+        this.migracao = migracao;
+    }
 
-            System.out.printf("🏆 Melhor fitness: %.4f (Distância: %.4f + Movimentos: %.4f)\n",
-                    melhor.getFitness(), melhor.getDistancia(), melhor.getCustoMovimentos());
+    public void setParalelismo(int threads) {
+        this.paralelismo = Math.max(1, threads);
+    }
+
+    public void setExecutor(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    public void setSemente(long semente) {
+        this.semente = semente;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
 
-            System.out.println("\n🔍 Sequência de movimentos:");
-            int contador = 1;
-            for (String movimento : melhor.getMovimentos()) {
-                System.out.printf("%2d. %s\n", contador++, movimento.toUpperCase());
+    public void setMonitor(MonitorBusca monitor) {
+        this.monitor = monitor != null ? monitor : MonitorBusca.NULO;
+    }
+
+    public void setAtualizacaoUI(Consumer<AtualizacaoBusca> callback) {
+        this.atualizacaoUI = callback;
+    }
+
+    public void setIntervaloAtualizacaoUI(int geracoes) {
+        this.intervaloAtualizacaoUI = Math.max(0, geracoes);
+    }
+
+    @Override
+    public String getNome() {
+        return "Algoritmo Genético";
+    }
+
+    @Override
+    public ResultadoBusca resolver(Supplier<Boolean> shouldStop) {
+        long inicio = System.nanoTime();
+        ResultadoBusca resultado = new ResultadoBusca(getNome(), tabuleiroInicial);
+        resultado.tabuleiroFinal = resolver(maxGeracoes, tamanhoPopulacao, shouldStop);
+        resultado.geracoes = geracoesExecutadas;
+        resultado.geracaoEncontrada = geracaoEncontrada;
+        resultado.avaliacoes = totalAvaliacoes;
+        resultado.calculos = totalCalculos;
+        resultado.doCache = respostaDoCache;
+        resultado.ajustes = totalAjustes;
+        resultado.imigrantes = totalImigrantes;
+        resultado.motivoParada = motivoParada;
+        if (memo != null) {
+            resultado.acertosMemo = memo.getAcertos();
+            resultado.consultasMemo = memo.getConsultas();
+        }
+        if (melhorGlobal != null) {
+            resultado.movimentos = melhorGlobal.getGenesEfetivos();
+            resultado.fitness = melhorGlobal.getFitness();
+            resultado.solucionado = melhorGlobal.getFitness() == 0.0;
+        }
+        resultado.tempoNanos = System.nanoTime() - inicio;
+        return resultado;
+    }
+
+    public int[] resolver(int maxGeracoes, int tamanhoPopulacao, Supplier<Boolean> shouldStop) {
+        long inicio = System.nanoTime();
+        if (!tabuleiroInicial.isSolucionavel()) {
+            throw new IllegalArgumentException("Tabuleiro sem solução");
+        }
+        solucaoCache = cache != null ? cache.buscar(tabuleiroInicial) : null;
+        respostaDoCache = solucaoCache != null && solucaoCache.isSolucionado();
+        if (respostaDoCache) {
+            return responderDoCache();
+        }
+        boolean executorProprio = executor == null && paralelismo > 1;
+        executorAtivo = executorProprio ? new ForkJoinPool(paralelismo) : executor;
+        try {
+            int[] tabuleiroFinal = executarGeracoes(maxGeracoes, tamanhoPopulacao, shouldStop, inicio);
+            if (cache != null && melhorGlobal != null) {
+                cache.registrar(tabuleiroInicial, melhorGlobal.getGenesEfetivos(), melhorGlobal.getFitness());
             }
+            return tabuleiroFinal;
+        } finally {
+            if (executorProprio) {
+                executorAtivo.shutdownNow();
+            }
+            executorAtivo = null;
+        }
+    }
 
-            if (melhor.getFitness() == 0.0) {
-                System.out.println("\n🎉 SOLUÇÃO ÓTIMA ENCONTRADA! 🎉");
-                int[] solucao = melhor.aplicarMovimentos();
+    private int[] responderDoCache() {
+        if (monitor.getVerbosidade().inclui(Verbosidade.RESUMO)) {
+            monitor.registrar(new EventoBusca(EventoBusca.Tipo.CACHE)
+                    .com("movimentos", solucaoCache.getTotalMovimentos())
+                    .com("tabuleiro", tabuleiroInicial.toArray1D()));
+        }
+        melhorGlobal = new Cromossomo(tabuleiroInicial, heuristica, new SplittableRandom(semente));
+        melhorGlobal.setGenes(solucaoCache.getMovimentos(), solucaoCache.getTotalMovimentos());
+        geracaoEncontrada = 0;
+        geracoesExecutadas = 0;
+        totalAvaliacoes = 0;
+        avaliacoesUltimaGeracao = 0;
+        totalCalculos = 0;
+        calculosUltimaGeracao = 0;
+        totalAjustes = 0;
+        totalImigrantes = 0;
+        motivoParada = MotivoParada.SOLUCAO;
+        memo = null;
+        enviarParaUI(1, melhorGlobal);
+        return finalizar(melhorGlobal);
+    }
 
-                System.out.println("\n▬▬▬ RESULTADO FINAL ▬▬▬");
-                System.out.printf("🎖️ Melhor fitness: %.4f\n", melhor.getFitness());
-                System.out.printf("🔢 Movimentos: %d | Geração: %d\n",
-                        melhor.getMovimentos().size(), geracaoEncontrada + 1);
-                System.out.println("🏁 Tabuleiro final:");
-                imprimirTabuleiro(solucao);
+    private int[] executarGeracoes(int maxGeracoes, int tamanhoPopulacao, Supplier<Boolean> shouldStop,
+            long inicio) {
+        if (monitor.getVerbosidade().inclui(Verbosidade.RESUMO)) {
+            monitor.registrar(new EventoBusca(EventoBusca.Tipo.INICIO)
+                    .com("maxGeracoes", maxGeracoes)
+                    .com("tamanhoPopulacao", tamanhoPopulacao)
+                    .com("taxaMutacao", taxaMutacao)
+                    .com("taxaCrossover", taxaCrossover)
+                    .com("taxaElitismo", taxaElitismo)
+                    .com("crossover", crossover.getNome())
+                    .com("heuristica", heuristica.getNome())
+                    .com("semente", semente)
+                    .com("paralelismo", executorAtivo == null ? 1 : paralelismo)
+                    .com("tabuleiro", tabuleiroInicial.toArray1D()));
+        }
 
-                if (atualizacaoUI != null) {
-                    enviarParaUI(geracao + 1, melhor);
+        melhorGlobal = null;
+        geracaoEncontrada = 0;
+        geracoesExecutadas = 0;
+        totalAvaliacoes = 0;
+        avaliacoesUltimaGeracao = 0;
+        totalCalculos = 0;
+        calculosUltimaGeracao = 0;
+        taxaMutacaoAtual = taxaMutacao;
+        taxaCrossoverAtual = taxaCrossover;
+        sobPressao = false;
+        ultimaImigracao = 0;
+        totalAjustes = 0;
+        totalImigrantes = 0;
+        motivoParada = MotivoParada.GERACOES;
+        memo = limiteMemo > 0 ? new MemoAvaliacao(limiteMemo, heuristica != Heuristica.MANHATTAN) : null;
+
+        random = new SplittableRandom(semente);
+        int geracao = 0;
+        try {
+            // Duas populações alternadas: os filhos são escritos sobre a geração anterior à atual, que já não é usada
+            Populacao populacao = criarPopulacao(tamanhoPopulacao);
+            Populacao proxima = new Populacao(tabuleiroInicial, heuristica, memo, tamanhoPopulacao);
+
+            for (; geracao < maxGeracoes; geracao++) {
+                if (prazoNanos > 0 && System.nanoTime() - inicio >= prazoNanos) {
+                    motivoParada = MotivoParada.PRAZO;
+                    break;
+                }
+                if (maxAvaliacoes > 0 && totalCalculos >= maxAvaliacoes) {
+                    motivoParada = MotivoParada.AVALIACOES;
+                    break;
+                }
+                if (shouldStop.get()) {
+                    motivoParada = MotivoParada.INTERRUPCAO;
+                    registrarInterrupcao(geracao);
+                    break;
                 }
 
-                return solucao;
-            }
+                Cromossomo melhor = populacao.get(avaliarPopulacao(populacao));
+                geracoesExecutadas = geracao + 1;
 
-            List<Cromossomo> novaPopulacao = new ArrayList<>();
-            int eliteSize = (int) Math.ceil(populacao.size() * taxaElitismo);
-            eliteSize = Math.max(1, eliteSize);
-            novaPopulacao.addAll(populacao.subList(0, eliteSize));
+                boolean melhorou = melhorGlobal == null || melhor.getFitness() < melhorGlobal.getFitness();
+                if (melhorou) {
+                    // A posição será reescrita nas próximas gerações, então o melhor é guardado numa cópia
+                    melhorGlobal = melhor.copia();
+                    melhorGlobal.setGeracaoEncontrada(geracao);
+                    geracaoEncontrada = geracao;
+                }
 
-            while (novaPopulacao.size() < tamanhoPopulacao) {
-                Cromossomo pai1 = selecaoPorRoleta(populacao);
-                Cromossomo pai2 = selecaoPorRoleta(populacao);
+                registrarGeracao(geracao, melhor);
 
-                Cromossomo[] filhos = Cromossomo.crossover(pai1, pai2);
+                if (melhor.getFitness() <= fitnessAlvo) {
+                    motivoParada = melhor.getFitness() == 0.0 ? MotivoParada.SOLUCAO : MotivoParada.FITNESS_ALVO;
+                    enviarParaUI(geracao + 1, melhor);
+                    return finalizar(melhor);
+                }
+                if (melhorou || (intervaloAtualizacaoUI > 0 && (geracao + 1) % intervaloAtualizacaoUI == 0)) {
+                    enviarParaUI(geracao + 1, melhor);
+                }
 
-                if (random.nextDouble() < taxaMutacao) {
-                    filhos[0].mutar();
+                if (janelaEstagnacao > 0 && geracao - geracaoEncontrada >= janelaEstagnacao) {
+                    motivoParada = MotivoParada.ESTAGNACAO;
+                    break;
                 }
-                if (random.nextDouble() < taxaMutacao) {
-                    filhos[1].mutar();
+
+                if (migracao != null) {
+                    migracao.migrar(geracao, populacao);
                 }
 
-                novaPopulacao.add(filhos[0]);
-                if (novaPopulacao.size() < tamanhoPopulacao) {
-                    novaPopulacao.add(filhos[1]);
+                int imigrantes = controle != null ? adaptarParametros(geracao, populacao) : 0;
+
+                int eliteSize = (int) Math.ceil(tamanhoPopulacao * taxaElitismo);
+                eliteSize = Math.max(1, eliteSize);
+
+                // Só a elite precisa sair em ordem; a seleção recebe o vetor de fitness e ordena por conta própria
+                // quando depende de postos, como o ranking
+                int[] elite = SelecaoParcial.menores(populacao.fitness, tamanhoPopulacao, eliteSize);
+                selecao.preparar(populacao.fitness, tamanhoPopulacao);
+                gerarNovaPopulacao(populacao, proxima, elite);
+                Populacao anterior = populacao;
+                populacao = proxima;
+                proxima = anterior;
+                if (imigrantes > 0) {
+                    injetarImigrantes(populacao, Math.min(imigrantes, tamanhoPopulacao - elite.length));
                 }
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            motivoParada = MotivoParada.INTERRUPCAO;
+            registrarInterrupcao(geracao);
+        }
 
-            populacao = novaPopulacao;
+        return finalizar(melhorGlobal);
+    }
 
-            if (atualizacaoUI != null) {
-                enviarParaUI(geracao + 1, melhor);
+    private void registrarGeracao(int geracao, Cromossomo melhor) {
+        Verbosidade verbosidade = monitor.getVerbosidade();
+        if (!verbosidade.inclui(Verbosidade.GERACOES)) {
+            return;
+        }
+        EventoBusca evento = new EventoBusca(EventoBusca.Tipo.GERACAO)
+                .com("geracao", geracao + 1)
+                .com("fitness", melhor.getFitness())
+                .com("distancia", melhor.getDistancia())
+                .com("custoMovimentos", melhor.getCustoMovimentos())
+                .com("avaliacoes", avaliacoesUltimaGeracao)
+                .com("calculos", calculosUltimaGeracao);
+        if (verbosidade.inclui(Verbosidade.DETALHADO)) {
+            evento.com("movimentos", melhor.getMovimentos());
+        }
+        monitor.registrar(evento);
+    }
+
+    // Ajusta as taxas da próxima geração e devolve quantos imigrantes entram nela; as mudanças de regime e as
+    // imigrações viram eventos AJUSTE
+    private int adaptarParametros(int geracao, Populacao populacao) {
+        double diversidade = medirDiversidade(populacao);
+        int estagnacao = geracao - geracaoEncontrada;
+        boolean pressao = controle.exigePressao(estagnacao, diversidade, sobPressao);
+        taxaMutacaoAtual = controle.proximaTaxaMutacao(taxaMutacaoAtual, taxaMutacao, pressao);
+        taxaCrossoverAtual = controle.taxaCrossover(taxaMutacaoAtual, taxaMutacao, taxaCrossover);
+        int imigrantes = controle.imigrantes(populacao.tamanho(), estagnacao, geracao - ultimaImigracao);
+        if (imigrantes > 0) {
+            ultimaImigracao = geracao;
+            totalImigrantes += imigrantes;
+        }
+        if (pressao != sobPressao || imigrantes > 0) {
+            sobPressao = pressao;
+            totalAjustes++;
+            if (monitor.getVerbosidade().inclui(Verbosidade.RESUMO)) {
+                monitor.registrar(new EventoBusca(EventoBusca.Tipo.AJUSTE)
+                        .com("geracao", geracao + 1)
+                        .com("pressao", pressao)
+                        .com("diversidade", diversidade)
+                        .com("desvioFitness", desvioFitness(populacao))
+                        .com("estagnacao", estagnacao)
+                        .com("taxaMutacao", taxaMutacaoAtual)
+                        .com("taxaCrossover", taxaCrossoverAtual)
+                        .com("imigrantes", imigrantes));
             }
         }
+        return imigrantes;
+    }
 
-        System.out.println("\n▬▬▬ RESULTADO FINAL ▬▬▬");
-        if (melhorGlobal != null) {
-            int[] melhorTabuleiro = melhorGlobal.aplicarMovimentos();
-            System.out.printf("🎖️ Melhor fitness: %.4f\n", melhorGlobal.getFitness());
-            System.out.printf("🔢 Movimentos: %d | Geração: %d\n",
-                    melhorGlobal.getMovimentos().size(), geracaoEncontrada + 1);
-            System.out.println("🏁 Melhor estado encontrado:");
-            imprimirTabuleiro(melhorTabuleiro);
-            return melhorTabuleiro;
+    // Fração de estados finais distintos; no 5×5 as duas metades são combinadas numa chave só
+    private double medirDiversidade(Populacao populacao) {
+        estadosFinais.limpar();
+        for (int i = 0; i < populacao.tamanho(); i++) {
+            long chave = populacao.estadosFinais[i]
+                    ^ Long.rotateLeft(populacao.altosFinais[i] * 0x9E3779B97F4A7C15L, 17);
+            estadosFinais.colocar(chave, 0);
         }
+        return (double) estadosFinais.tamanho() / populacao.tamanho();
+    }
 
-        System.out.println("Nenhuma solução encontrada.");
-        return tabuleiroInicial.toArray1D();
+    private static double desvioFitness(Populacao populacao) {
+        double soma = 0;
+        double somaQuadrados = 0;
+        for (int i = 0; i < populacao.tamanho(); i++) {
+            double fitness = populacao.fitness[i];
+            soma += fitness;
+            somaQuadrados += fitness * fitness;
+        }
+        double media = soma / populacao.tamanho();
+        return Math.sqrt(Math.max(0, somaQuadrados / populacao.tamanho() - media * media));
     }
 
-    private void enviarParaUI(int geracao, Cromossomo melhor) {
-        List<int[]> historico = new ArrayList<>();
-        PuzzleModel copia = tabuleiroInicial.copia();
-        historico.add(copia.toArray1D());
-
-        for (String movimento : melhor.getMovimentos()) {
-            switch (movimento) {
-                case "cima":
-                    copia.moverParaCima();
-                    break;
-                case "baixo":
-                    copia.moverParaBaixo();
-                    break;
-                case "esquerda":
-                    copia.moverParaEsquerda();
-                    break;
-                case "direita":
-                    copia.moverParaDireita();
-                    break;
+    // Os imigrantes substituem o fim da nova população, longe da elite, e são avaliados com ela na próxima geração
+    private void injetarImigrantes(Populacao populacao, int imigrantes) {
+        SplittableRandom rng = random.split();
+        for (int i = populacao.tamanho() - imigrantes; i < populacao.tamanho(); i++) {
+            populacao.get(i).sortear(rng);
+        }
+    }
+
+    private void registrarInterrupcao(int geracao) {
+        if (monitor.getVerbosidade().inclui(Verbosidade.RESUMO)) {
+            monitor.registrar(new EventoBusca(EventoBusca.Tipo.INTERRUPCAO).com("geracao", geracao + 1));
+        }
+    }
+
+    private int[] finalizar(Cromossomo melhor) {
+        int[] tabuleiroFinal = melhor != null ? melhor.aplicarMovimentos() : null;
+        if (monitor.getVerbosidade().inclui(Verbosidade.RESUMO)) {
+            EventoBusca evento = new EventoBusca(EventoBusca.Tipo.FIM)
+                    .com("otima", melhor != null && melhor.getFitness() == 0.0)
+                    .com("motivo", motivoParada.getDescricao())
+                    .com("tabuleiro", tabuleiroFinal)
+                    .com("avaliacoes", totalAvaliacoes)
+                    .com("calculos", totalCalculos);
+            if (memo != null) {
+                evento.com("taxaAcertoMemo", getTaxaAcertoMemo());
             }
-            historico.add(copia.toArray1D());
+            if (controle != null) {
+                evento.com("ajustes", totalAjustes).com("imigrantes", totalImigrantes);
+            }
+            if (melhor != null) {
+                evento.com("fitness", melhor.getFitness())
+                        .com("movimentos", melhor.getGenesEfetivos().length)
+                        .com("geracaoEncontrada", geracaoEncontrada + 1);
+            }
+            monitor.registrar(evento);
         }
-        atualizacaoUI.accept(geracao, historico);
+        monitor.concluir();
+        return tabuleiroFinal != null ? tabuleiroFinal : tabuleiroInicial.toArray1D();
     }
 
-    private void imprimirTabuleiro(int[] tabuleiro) {
-        System.out.println("╔═══╦═══╦═══╗");
-        for (int i = 0; i < 3; i++) {
-            System.out.print("║");
-            for (int j = 0; j < 3; j++) {
-                int valor = tabuleiro[i * 3 + j];
-                System.out.print(" " + (valor == 0 ? " " : valor) + " ║");
+    private Populacao criarPopulacao(int tamanhoPopulacao) throws InterruptedException {
+        Populacao populacao = new Populacao(tabuleiroInicial, heuristica, memo, tamanhoPopulacao);
+        int blocos = (tamanhoPopulacao + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO;
+        rascunhos = new PuzzleModel[blocos];
+        for (int b = 0; b < blocos; b++) {
+            rascunhos[b] = tabuleiroInicial.copia();
+        }
+        melhorDoBloco = new int[blocos];
+        calculosDoBloco = new int[blocos];
+        executarEmBlocos(tamanhoPopulacao, (inicio, fim, rng) -> {
+            for (int i = inicio; i < fim; i++) {
+                populacao.get(i).sortear(rng);
             }
-            if (i < 2) {
-                System.out.println("\n╠═══╬═══╬═══╣");
+            return 0;
+        });
+        if (solucaoCache != null) {
+            populacao.get(0).setGenes(solucaoCache.getMovimentos(), solucaoCache.getTotalMovimentos());
+        }
+        return populacao;
+    }
+
+    // Devolve o índice do melhor; cada bloco acha o seu e empates ficam com o menor índice, como numa ordenação
+    // estável
+    private int avaliarPopulacao(Populacao populacao) throws InterruptedException {
+        double[] fitness = populacao.fitness;
+        int avaliacoes = executarEmBlocos(populacao.tamanho(), (inicio, fim, rng) -> {
+            PuzzleModel rascunho = rascunhos[inicio / TAMANHO_BLOCO];
+            int visitas = 0;
+            int calculos = 0;
+            int melhor = inicio;
+            for (int i = inicio; i < fim; i++) {
+                visitas++;
+                if (populacao.get(i).avaliar(rascunho)) {
+                    calculos++;
+                }
+                if (fitness[i] < fitness[melhor]) {
+                    melhor = i;
+                }
             }
+            melhorDoBloco[inicio / TAMANHO_BLOCO] = melhor;
+            calculosDoBloco[inicio / TAMANHO_BLOCO] = calculos;
+            return visitas;
+        });
+        // Elites e filhos idênticos ao pai já chegam com fitness: contam como avaliados, mas não como cálculo
+        int calculos = 0;
+        for (int c : calculosDoBloco) {
+            calculos += c;
         }
-        System.out.println("\n╚═══╩═══╩═══╝");
+        avaliacoesUltimaGeracao = avaliacoes;
+        totalAvaliacoes += avaliacoes;
+        calculosUltimaGeracao = calculos;
+        totalCalculos += calculos;
+
+        int melhor = melhorDoBloco[0];
+        for (int indice : melhorDoBloco) {
+            if (fitness[indice] < fitness[melhor]) {
+                melhor = indice;
+            }
+        }
+        return melhor;
     }
 
-    private Cromossomo selecaoPorRoleta(List<Cromossomo> populacao) {
-        double fitnessTotal = populacao.stream()
-                .mapToDouble(c -> 1.0 / (c.getFitness() + 1e-6))
-                .sum();
+    // Escreve a próxima geração sobre as posições de proxima, sem criar cromossomos
+    private void gerarNovaPopulacao(Populacao populacao, Populacao proxima, int[] elite)
+            throws InterruptedException {
+        int tamanhoPopulacao = proxima.tamanho();
+        int eliteSize = Math.min(elite.length, tamanhoPopulacao);
+        for (int i = 0; i < eliteSize; i++) {
+            proxima.get(i).copiar(populacao.get(elite[i]));
+        }
+        int filhos = tamanhoPopulacao - eliteSize;
+        int pares = (filhos + 1) / 2;
+        executarEmBlocos(pares, (inicio, fim, rng) -> {
+            for (int par = inicio; par < fim; par++) {
+                Cromossomo pai1 = populacao.get(selecao.selecionar(rng));
+                Cromossomo pai2 = populacao.get(selecao.selecionar(rng));
+
+                // Com um número ímpar de filhos, o segundo do último par cai na posição extra e é descartado
+                int destino = eliteSize + par * 2;
+                Cromossomo filho1 = proxima.get(destino);
+                Cromossomo filho2 = proxima.get(destino + 1);
+
+                // Sem crossover os pais seguem como cópias, já avaliadas até alguma mutação
+                if (rng.nextDouble() < taxaCrossoverAtual) {
+                    crossover.cruzar(pai1, pai2, filho1, filho2, rng);
+                } else {
+                    filho1.copiar(pai1);
+                    filho2.copiar(pai2);
+                }
+
+                if (rng.nextDouble() < taxaMutacaoAtual) {
+                    filho1.mutar(rng);
+                }
+                if (rng.nextDouble() < taxaMutacaoAtual) {
+                    filho2.mutar(rng);
+                }
+            }
+            return 0;
+        });
+    }
 
-        double valorRoleta = random.nextDouble() * fitnessTotal;
-        double acumulado = 0;
+    // Os blocos e seus geradores dependem apenas do total de itens, então o resultado não muda com o número de threads
+    private int executarEmBlocos(int total, TarefaBloco tarefa) throws InterruptedException {
+        int blocos = (total + TAMANHO_BLOCO - 1) / TAMANHO_BLOCO;
+        SplittableRandom origem = random.split();
+        if (executorAtivo == null || blocos <= 1) {
+            int soma = 0;
+            for (int b = 0; b < blocos; b++) {
+                soma += tarefa.executar(b * TAMANHO_BLOCO, Math.min(total, (b + 1) * TAMANHO_BLOCO), origem.split());
+            }
+            return soma;
+        }
 
-        for (Cromossomo c : populacao) {
-            acumulado += 1.0 / (c.getFitness() + 1e-6);
-            if (acumulado >= valorRoleta) {
-                return c;
+        List<Callable<Integer>> tarefas = new ArrayList<>(blocos);
+        for (int b = 0; b < blocos; b++) {
+            int inicio = b * TAMANHO_BLOCO;
+            int fim = Math.min(total, inicio + TAMANHO_BLOCO);
+            SplittableRandom rng = origem.split();
+            tarefas.add(() -> tarefa.executar(inicio, fim, rng));
+        }
+        int soma = 0;
+        for (Future<Integer> resultado : executorAtivo.invokeAll(tarefas)) {
+            try {
+                soma += resultado.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Falha ao processar a geração", e.getCause());
             }
         }
-        return populacao.get(populacao.size() - 1);
+        return soma;
+    }
+
+    private void enviarParaUI(int geracao, Cromossomo melhor) {
+        if (atualizacaoUI != null) {
+            atualizacaoUI.accept(new AtualizacaoBusca(geracao, melhor.getFitness(), melhor.getGenesEfetivos(),
+                    tabuleiroInicial));
+        }
     }
 
     public Cromossomo getMelhorGlobal() {
@@ -215,4 +622,29 @@ public final class AlgoritmoGenetico {
     public int getGeracaoEncontrada() {
         return geracaoEncontrada;
     }
+
+    public long getTotalAvaliacoes() {
+        return totalAvaliacoes;
+    }
+
+    public MotivoParada getMotivoParada() {
+        return motivoParada;
+    }
+
+    public int getAvaliacoesUltimaGeracao() {
+        return avaliacoesUltimaGeracao;
+    }
+
+    public long getTotalCalculos() {
+        return totalCalculos;
+    }
+
+    public int getCalculosUltimaGeracao() {
+        return calculosUltimaGeracao;
+    }
+
+    public double getTaxaAcertoMemo() {
+        long consultas = memo != null ? memo.getConsultas() : 0;
+        return consultas == 0 ? 0.0 : (double) memo.getAcertos() / consultas;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,345 @@
+package puzzle.model;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+// Modelo de ilhas: cada subpopulação evolui na sua própria thread e, a cada intervaloMigracao gerações, manda cópias
+// dos seus melhores para a próxima ilha do anel. A troca é uma caixa por ilha, sem travas nem barreira entre as
+// gerações, então o momento em que os migrantes chegam depende do escalonamento e o resultado não é reproduzível
+// pela semente como no algoritmo de população única.
+public final class AlgoritmoGeneticoIlhas implements Solver {
+    private final PuzzleModel tabuleiroInicial;
+    private int numeroIlhas = Runtime.getRuntime().availableProcessors();
+    private int intervaloMigracao = 25;
+    private int migrantes = 2;
+    private int maxGeracoes = 1000;
+    private long prazo;
+    private long maxAvaliacoes;
+    private int janelaEstagnacao;
+    private double fitnessAlvo;
+    private int tamanhoPopulacao = 500;
+    private double taxaMutacao = 0.3;
+    private double taxaCrossover = 0.8;
+    private double taxaElitismo = 0.01;
+    private final Map<Integer, double[]> taxasPorIlha = new HashMap<>();
+    private Supplier<Selecao> fabricaSelecao = SelecaoRoleta::new;
+    private Crossover crossover = Crossover.MEIO;
+    private ControleAdaptativo controle;
+    private Heuristica heuristica = Heuristica.MANHATTAN;
+    private long limiteMemo;
+    private long semente = new SplittableRandom().nextLong();
+    private MonitorBusca monitor = MonitorBusca.NULO;
+    private Consumer<AtualizacaoBusca> atualizacaoUI;
+    private double melhorPublicado;
+    private int geracaoPublicada;
+
+    private static final int POPULACAO_MINIMA_ILHA = 10;
+
+    public AlgoritmoGeneticoIlhas(PuzzleModel tabuleiroInicial) {
+        this.tabuleiroInicial = tabuleiroInicial.copia();
+    }
+
+    public void setNumeroIlhas(int ilhas) {
+        this.numeroIlhas = Math.max(1, ilhas);
+    }
+
+    public void setIntervaloMigracao(int geracoes) {
+        this.intervaloMigracao = Math.max(1, geracoes);
+    }
+
+    public void setMigrantes(int migrantes) {
+        this.migrantes = Math.max(1, migrantes);
+    }
+
+    public void setMaxGeracoes(int maxGeracoes) {
+        this.maxGeracoes = Math.max(1, maxGeracoes);
+    }
+
+    public void setPrazo(long milissegundos) {
+        this.prazo = Math.max(0, milissegundos);
+    }
+
+    // Limite total, dividido igualmente entre as ilhas
+    public void setMaxAvaliacoes(long avaliacoes) {
+        this.maxAvaliacoes = Math.max(0, avaliacoes);
+    }
+
+    // Vale para cada ilha separadamente: uma ilha estagnada para e as outras seguem
+    public void setJanelaEstagnacao(int geracoes) {
+        this.janelaEstagnacao = Math.max(0, geracoes);
+    }
+
+    public void setFitnessAlvo(double fitness) {
+        this.fitnessAlvo = Math.max(0, fitness);
+    }
+
+    // Tamanho total, dividido igualmente entre as ilhas
+    public void setTamanhoPopulacao(int tamanhoPopulacao) {
+        this.tamanhoPopulacao = Math.max(2, tamanhoPopulacao);
+    }
+
+    public void setTaxaMutacao(double taxa) {
+        this.taxaMutacao = Math.max(0, Math.min(1, taxa));
+    }
+
+    public void setTaxaCrossover(double taxa) {
+        this.taxaCrossover = Math.max(0, Math.min(1, taxa));
+    }
+
+    public void setTaxaElitismo(double taxa) {
+        this.taxaElitismo = Math.max(0.01, Math.min(1.0, taxa));
+    }
+
+    // Taxas próprias de uma ilha; as demais usam as taxas gerais
+    public void setTaxasIlha(int ilha, double mutacao, double crossover) {
+        taxasPorIlha.put(ilha, new double[]{mutacao, crossover});
+    }
+
+    // Cada ilha precisa da sua instância, porque a seleção guarda estado entre preparar e selecionar
+    public void setSelecao(Supplier<Selecao> fabrica) {
+        this.fabricaSelecao = Objects.requireNonNull(fabrica);
+    }
+
+    public void setCrossover(Crossover crossover) {
+        this.crossover = Objects.requireNonNull(crossover);
+    }
+
+    public void setControleAdaptativo(ControleAdaptativo controle) {
+        this.controle = controle;
+    }
+
+    public void setHeuristica(Heuristica heuristica) {
+        this.heuristica = Objects.requireNonNull(heuristica);
+    }
+
+    public void setLimiteMemo(long bytes) {
+        this.limiteMemo = Math.max(0, bytes);
+    }
+
+    public void setSemente(long semente) {
+        this.semente = semente;
+    }
+
+    public long getSemente() {
+        return semente;
+    }
+
+    public void setMonitor(MonitorBusca monitor) {
+        this.monitor = monitor != null ? monitor : MonitorBusca.NULO;
+    }
+
+    public void setAtualizacaoUI(Consumer<AtualizacaoBusca> callback) {
+        this.atualizacaoUI = callback;
+    }
+
+    @Override
+    public String getNome() {
+        return "Algoritmo Genético (ilhas)";
+    }
+
+    @Override
+    public ResultadoBusca resolver(Supplier<Boolean> shouldStop) {
+        if (!tabuleiroInicial.isSolucionavel()) {
+            throw new IllegalArgumentException("Tabuleiro sem solução");
+        }
+        long inicio = System.nanoTime();
+        int ilhas = numeroIlhas;
+        int populacaoIlha = Math.max(POPULACAO_MINIMA_ILHA, tamanhoPopulacao / ilhas);
+        registrarInicio(ilhas, populacaoIlha);
+
+        melhorPublicado = Double.POSITIVE_INFINITY;
+        geracaoPublicada = 0;
+        AtomicBoolean parar = new AtomicBoolean();
+        Supplier<Boolean> pararIlha = () -> parar.get() || shouldStop.get();
+        AtomicReferenceArray<Cromossomo[]> caixas = new AtomicReferenceArray<>(ilhas);
+        SplittableRandom sementes = new SplittableRandom(semente);
+
+        ExecutorService executor = Executors.newFixedThreadPool(ilhas, tarefa -> {
+            Thread thread = new Thread(tarefa, "ilha-genetica");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Future<ResultadoBusca>> futuros = new ArrayList<>(ilhas);
+        try {
+            for (int i = 0; i < ilhas; i++) {
+                AlgoritmoGenetico ilha = criarIlha(i, ilhas, populacaoIlha, sementes.nextLong(), caixas);
+                futuros.add(executor.submit(() -> {
+                    ResultadoBusca resultado = ilha.resolver(pararIlha);
+                    MotivoParada motivo = resultado.getMotivoParada();
+                    if (motivo == MotivoParada.SOLUCAO || motivo == MotivoParada.FITNESS_ALVO) {
+                        parar.set(true);
+                    }
+                    return resultado;
+                }));
+            }
+            return combinar(coletar(futuros, parar), inicio);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private AlgoritmoGenetico criarIlha(int indice, int ilhas, int populacaoIlha, long sementeIlha,
+            AtomicReferenceArray<Cromossomo[]> caixas) {
+        AlgoritmoGenetico ilha = new AlgoritmoGenetico(tabuleiroInicial);
+        double[] taxas = taxasPorIlha.get(indice);
+        ilha.setTaxaMutacao(taxas != null ? taxas[0] : taxaMutacao);
+        ilha.setTaxaCrossover(taxas != null ? taxas[1] : taxaCrossover);
+        ilha.setTaxaElitismo(taxaElitismo);
+        ilha.setMaxGeracoes(maxGeracoes);
+        ilha.setPrazo(prazo);
+        ilha.setMaxAvaliacoes(maxAvaliacoes == 0 ? 0 : Math.max(1, maxAvaliacoes / ilhas));
+        ilha.setJanelaEstagnacao(janelaEstagnacao);
+        ilha.setFitnessAlvo(fitnessAlvo);
+        ilha.setTamanhoPopulacao(populacaoIlha);
+        ilha.setSelecao(fabricaSelecao.get());
+        ilha.setCrossover(crossover);
+        ilha.setControleAdaptativo(controle);
+        ilha.setHeuristica(heuristica);
+        ilha.setLimiteMemo(limiteMemo);
+        ilha.setParalelismo(1);
+        ilha.setSemente(sementeIlha);
+        ilha.setIntervaloAtualizacaoUI(0);
+        if (atualizacaoUI != null) {
+            ilha.setAtualizacaoUI(this::publicar);
+        }
+        if (ilhas > 1) {
+            int destino = (indice + 1) % ilhas;
+            ilha.setMigracao((geracao, populacao) -> migrar(indice, destino, geracao, populacao, caixas));
+        }
+        return ilha;
+    }
+
+    // A ilha deixa cópias dos seus melhores na caixa da próxima (substituindo um lote ainda não lido) e troca os
+    // piores da sua população pelo lote que encontrar na própria caixa
+    private void migrar(int indice, int destino, int geracao, Populacao populacao,
+            AtomicReferenceArray<Cromossomo[]> caixas) {
+        if ((geracao + 1) % intervaloMigracao != 0) {
+            return;
+        }
+        int tamanho = populacao.tamanho();
+        int[] melhores = SelecaoParcial.menores(populacao.fitness, tamanho, Math.min(migrantes, tamanho / 2));
+        Cromossomo[] emigrantes = new Cromossomo[melhores.length];
+        for (int i = 0; i < emigrantes.length; i++) {
+            emigrantes[i] = populacao.get(melhores[i]).copia();
+        }
+        caixas.set(destino, emigrantes);
+
+        Cromossomo[] imigrantes = caixas.getAndSet(indice, null);
+        if (imigrantes == null || imigrantes.length == 0) {
+            return;
+        }
+        int[] piores = SelecaoParcial.maiores(populacao.fitness, tamanho, imigrantes.length);
+        for (int i = 0; i < piores.length; i++) {
+            populacao.get(piores[i]).copiar(imigrantes[i]);
+        }
+    }
+
+    // Só passam as melhorias sobre todas as ilhas; a geração é renumerada para crescer sempre, porque cada ilha
+    // conta as suas
+    private synchronized void publicar(AtualizacaoBusca atualizacao) {
+        if (atualizacao.getFitness() < melhorPublicado) {
+            melhorPublicado = atualizacao.getFitness();
+            geracaoPublicada = Math.max(geracaoPublicada + 1, atualizacao.getGeracao());
+            atualizacaoUI.accept(new AtualizacaoBusca(geracaoPublicada, atualizacao.getFitness(),
+                    atualizacao.getGenes(), tabuleiroInicial));
+        }
+    }
+
+    // Uma interrupção da thread chamadora para todas as ilhas, mas ainda espera os resultados parciais
+    private static List<ResultadoBusca> coletar(List<Future<ResultadoBusca>> futuros, AtomicBoolean parar) {
+        List<ResultadoBusca> resultados = new ArrayList<>(futuros.size());
+        boolean interrompido = false;
+        for (Future<ResultadoBusca> futuro : futuros) {
+            while (true) {
+                try {
+                    resultados.add(futuro.get());
+                    break;
+                } catch (InterruptedException e) {
+                    interrompido = true;
+                    parar.set(true);
+                } catch (ExecutionException e) {
+                    parar.set(true);
+                    throw new IllegalStateException("Falha ao evoluir a ilha", e.getCause());
+                }
+            }
+        }
+        if (interrompido) {
+            Thread.currentThread().interrupt();
+        }
+        return resultados;
+    }
+
+    private ResultadoBusca combinar(List<ResultadoBusca> resultados, long inicio) {
+        ResultadoBusca combinado = new ResultadoBusca(getNome(), tabuleiroInicial);
+        ResultadoBusca melhor = null;
+        for (ResultadoBusca resultado : resultados) {
+            combinado.geracoes = Math.max(combinado.geracoes, resultado.geracoes);
+            combinado.avaliacoes += resultado.avaliacoes;
+            combinado.calculos += resultado.calculos;
+            combinado.acertosMemo += resultado.acertosMemo;
+            combinado.consultasMemo += resultado.consultasMemo;
+            combinado.ajustes += resultado.ajustes;
+            combinado.imigrantes += resultado.imigrantes;
+            if (melhor == null || Double.isNaN(melhor.fitness) || resultado.fitness < melhor.fitness) {
+                melhor = resultado;
+            }
+        }
+        if (melhor != null) {
+            combinado.movimentos = melhor.movimentos;
+            combinado.tabuleiroFinal = melhor.tabuleiroFinal;
+            combinado.fitness = melhor.fitness;
+            combinado.solucionado = melhor.solucionado;
+            combinado.geracaoEncontrada = melhor.geracaoEncontrada;
+            combinado.motivoParada = melhor.getMotivoParada();
+        }
+        combinado.tempoNanos = System.nanoTime() - inicio;
+        registrarFim(combinado);
+        return combinado;
+    }
+
+    private void registrarInicio(int ilhas, int populacaoIlha) {
+        if (monitor.getVerbosidade().inclui(Verbosidade.RESUMO)) {
+            monitor.registrar(new EventoBusca(EventoBusca.Tipo.INICIO)
+                    .com("maxGeracoes", maxGeracoes)
+                    .com("tamanhoPopulacao", populacaoIlha * ilhas)
+                    .com("taxaMutacao", taxaMutacao)
+                    .com("taxaCrossover", taxaCrossover)
+                    .com("taxaElitismo", taxaElitismo)
+                    .com("crossover", crossover.getNome())
+                    .com("heuristica", heuristica.getNome())
+                    .com("semente", semente)
+                    .com("paralelismo", ilhas)
+                    .com("ilhas", ilhas)
+                    .com("intervaloMigracao", intervaloMigracao)
+                    .com("tabuleiro", tabuleiroInicial.toArray1D()));
+        }
+    }
+
+    private void registrarFim(ResultadoBusca resultado) {
+        if (monitor.getVerbosidade().inclui(Verbosidade.RESUMO)) {
+            EventoBusca evento = new EventoBusca(EventoBusca.Tipo.FIM)
+                    .com("otima", resultado.solucionado)
+                    .com("motivo", resultado.getMotivoParada().getDescricao())
+                    .com("tabuleiro", resultado.tabuleiroFinal)
+                    .com("avaliacoes", resultado.avaliacoes)
+                    .com("calculos", resultado.calculos);
+            if (resultado.consultasMemo > 0) {
+                evento.com("taxaAcertoMemo", resultado.getTaxaAcertoMemo());
+            }
+            if (controle != null) {
+                evento.com("ajustes", resultado.ajustes).com("imigrantes", resultado.imigrantes);
+            }
+            if (!Double.isNaN(resultado.fitness)) {
+                evento.com("fitness", resultado.fitness)
+                        .com("movimentos", resultado.movimentos.length)
+                        .com("geracaoEncontrada", resultado.geracaoEncontrada + 1);
+            }
+            monitor.registrar(evento);
+        }
+        monitor.concluir();
+    }
+}
@@ -0,0 +1,46 @@
+package puzzle.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class AtualizacaoBusca {
+    private final int geracao;
+    private final double fitness;
+    private final byte[] genes;
+    private final PuzzleModel tabuleiroInicial;
+
+    AtualizacaoBusca(int geracao, double fitness, byte[] genes, PuzzleModel tabuleiroInicial) {
+        this.geracao = geracao;
+        this.fitness = fitness;
+        this.genes = genes;
+        this.tabuleiroInicial = tabuleiroInicial;
+    }
+
+    public int getGeracao() {
+        return geracao;
+    }
+
+    public double getFitness() {
+        return fitness;
+    }
+
+    public int getTotalMovimentos() {
+        return genes.length;
+    }
+
+    public byte[] getGenes() {
+        return Arrays.copyOf(genes, genes.length);
+    }
+
+    public List<int[]> expandir() {
+        List<int[]> tabuleiros = new ArrayList<>(genes.length + 1);
+        PuzzleModel copia = tabuleiroInicial.copia();
+        tabuleiros.add(copia.toArray1D());
+        for (byte gene : genes) {
+            copia.mover(gene);
+            tabuleiros.add(copia.toArray1D());
+        }
+        return tabuleiros;
+    }
+}
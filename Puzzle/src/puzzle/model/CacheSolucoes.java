@@ -0,0 +1,173 @@
+package puzzle.model;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public final class CacheSolucoes {
+    private final int capacidade;
+    private final LinkedHashMap<Chave, Solucao> entradas;
+    private long acertos;
+    private long falhas;
+    private long remocoes;
+
+    public CacheSolucoes(int capacidade) {
+        if (capacidade < 1) {
+            throw new IllegalArgumentException("Capacidade inválida: " + capacidade);
+        }
+        this.capacidade = capacidade;
+        // Ordem de acesso: o primeiro da iteração é o menos usado recentemente e sai quando a capacidade estoura
+        this.entradas = new LinkedHashMap<Chave, Solucao>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Chave, Solucao> maisAntiga) {
+                if (size() > CacheSolucoes.this.capacidade) {
+                    remocoes++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // Devolve a melhor solução conhecida já traduzida para o tabuleiro recebido, ou null
+    public Solucao buscar(PuzzleModel tabuleiro) {
+        PuzzleModel transposto = tabuleiro.transposto();
+        boolean usarTransposto = Chave.menor(transposto, tabuleiro);
+        Chave chave = new Chave(usarTransposto ? transposto : tabuleiro);
+        Solucao solucao;
+        synchronized (this) {
+            solucao = entradas.get(chave);
+            if (solucao == null) {
+                falhas++;
+                return null;
+            }
+            acertos++;
+        }
+        return usarTransposto ? solucao.transposta() : solucao;
+    }
+
+    // Guarda a solução se ela for melhor que a conhecida: menor fitness ou, empatando, menos movimentos
+    public void registrar(PuzzleModel tabuleiro, byte[] movimentos, double fitness) {
+        PuzzleModel transposto = tabuleiro.transposto();
+        boolean usarTransposto = Chave.menor(transposto, tabuleiro);
+        Chave chave = new Chave(usarTransposto ? transposto : tabuleiro);
+        Solucao nova = new Solucao(movimentos.clone(), fitness);
+        if (usarTransposto) {
+            nova = nova.transposta();
+        }
+        synchronized (this) {
+            Solucao atual = entradas.get(chave);
+            if (atual == null || nova.melhorQue(atual)) {
+                entradas.put(chave, nova);
+            }
+        }
+    }
+
+    public synchronized void limpar() {
+        entradas.clear();
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public synchronized int getTamanho() {
+        return entradas.size();
+    }
+
+    public synchronized long getAcertos() {
+        return acertos;
+    }
+
+    public synchronized long getFalhas() {
+        return falhas;
+    }
+
+    public synchronized long getRemocoes() {
+        return remocoes;
+    }
+
+    public synchronized double getTaxaAcerto() {
+        long consultas = acertos + falhas;
+        return consultas == 0 ? 0.0 : (double) acertos / consultas;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format(Locale.ROOT, "Cache: %d/%d entradas, %d acertos, %d falhas (%.1f%%), %d removidas",
+                entradas.size(), capacidade, acertos, falhas, getTaxaAcerto() * 100, remocoes);
+    }
+
+    public static final class Solucao {
+        private final byte[] movimentos;
+        private final double fitness;
+
+        Solucao(byte[] movimentos, double fitness) {
+            this.movimentos = movimentos;
+            this.fitness = fitness;
+        }
+
+        public byte[] getMovimentos() {
+            return Arrays.copyOf(movimentos, movimentos.length);
+        }
+
+        public int getTotalMovimentos() {
+            return movimentos.length;
+        }
+
+        public double getFitness() {
+            return fitness;
+        }
+
+        public boolean isSolucionado() {
+            return fitness == 0.0;
+        }
+
+        private Solucao transposta() {
+            byte[] transpostos = new byte[movimentos.length];
+            for (int i = 0; i < movimentos.length; i++) {
+                transpostos[i] = Movimento.deCodigo(movimentos[i]).transposto().getCodigo();
+            }
+            return new Solucao(transpostos, fitness);
+        }
+
+        private boolean melhorQue(Solucao outra) {
+            return fitness < outra.fitness || (fitness == outra.fitness && movimentos.length < outra.movimentos.length);
+        }
+    }
+
+    private static final class Chave {
+        private final int dimensao;
+        private final long estado;
+        private final long estadoAlto;
+
+        Chave(PuzzleModel tabuleiro) {
+            this.dimensao = tabuleiro.getDimensao();
+            this.estado = tabuleiro.getEstado();
+            this.estadoAlto = tabuleiro.getEstadoAlto();
+        }
+
+        // Representante canônico de {tabuleiro, transposto}: o de menor valor empacotado
+        static boolean menor(PuzzleModel a, PuzzleModel b) {
+            if (a.getEstadoAlto() != b.getEstadoAlto()) {
+                return Long.compareUnsigned(a.getEstadoAlto(), b.getEstadoAlto()) < 0;
+            }
+            return Long.compareUnsigned(a.getEstado(), b.getEstado()) < 0;
+        }
+
+        @Override
+        public boolean equals(Object outro) {
+            if (!(outro instanceof Chave)) {
+                return false;
+            }
+            Chave chave = (Chave) outro;
+            return dimensao == chave.dimensao && estado == chave.estado && estadoAlto == chave.estadoAlto;
+        }
+
+        @Override
+        public int hashCode() {
+            return MapaEstados.espalhar(estado ^ Long.rotateLeft(estadoAlto, 32) ^ dimensao);
+        }
+    }
+}
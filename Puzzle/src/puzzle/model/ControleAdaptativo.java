@@ -0,0 +1,77 @@
+package puzzle.model;
+
+// Configuração do controle adaptativo de parâmetros. A cada geração o algoritmo mede a diversidade (fração de
+// estados finais distintos na população) e há quantas gerações não melhora: com a população estagnada ou pouco
+// diversa a mutação sobe até taxaMutacaoMaxima e o crossover recua na mesma proporção; fora disso as duas voltam
+// aos poucos às taxas configuradas. Estagnação persistente também troca os piores por imigrantes aleatórios.
+public final class ControleAdaptativo {
+    private int limiteEstagnacao = 50;
+    private double diversidadeMinima = 0.25;
+    private double taxaMutacaoMaxima = 0.9;
+    private double fatorAumento = 1.5;
+    private double fatorRecuo = 0.9;
+    private double fracaoImigrantes = 0.1;
+
+    public void setLimiteEstagnacao(int geracoes) {
+        this.limiteEstagnacao = Math.max(1, geracoes);
+    }
+
+    public void setDiversidadeMinima(double fracao) {
+        this.diversidadeMinima = Math.max(0, Math.min(1, fracao));
+    }
+
+    public void setTaxaMutacaoMaxima(double taxa) {
+        this.taxaMutacaoMaxima = Math.max(0, Math.min(1, taxa));
+    }
+
+    public void setFatorAumento(double fator) {
+        this.fatorAumento = Math.max(1, fator);
+    }
+
+    public void setFatorRecuo(double fator) {
+        this.fatorRecuo = Math.max(0, Math.min(1, fator));
+    }
+
+    public void setFracaoImigrantes(double fracao) {
+        this.fracaoImigrantes = Math.max(0, Math.min(1, fracao));
+    }
+
+    public int getLimiteEstagnacao() {
+        return limiteEstagnacao;
+    }
+
+    public double getDiversidadeMinima() {
+        return diversidadeMinima;
+    }
+
+    // Histerese: quem já está sob pressão só sai com a diversidade 50% acima do mínimo, para não alternar a cada
+    // geração
+    boolean exigePressao(int estagnacao, double diversidade, boolean sobPressao) {
+        double limiar = sobPressao ? diversidadeMinima * 1.5 : diversidadeMinima;
+        return estagnacao >= limiteEstagnacao || diversidade < limiar;
+    }
+
+    // Aumento multiplicativo sob pressão, recuo geométrico até a taxa base fora dela
+    double proximaTaxaMutacao(double atual, double base, boolean pressao) {
+        double teto = Math.max(base, taxaMutacaoMaxima);
+        if (pressao) {
+            return Math.min(teto, Math.max(atual, 0.01) * fatorAumento);
+        }
+        return base + (atual - base) * fatorRecuo;
+    }
+
+    // O crossover cai até a metade da base conforme a mutação se aproxima do teto
+    double taxaCrossover(double taxaMutacao, double baseMutacao, double baseCrossover) {
+        double teto = Math.max(baseMutacao, taxaMutacaoMaxima);
+        double pressao = teto > baseMutacao ? (taxaMutacao - baseMutacao) / (teto - baseMutacao) : 0;
+        return baseCrossover * (1 - 0.5 * Math.max(0, Math.min(1, pressao)));
+    }
+
+    // Imigrantes a cada limiteEstagnacao gerações enquanto a estagnação durar
+    int imigrantes(int tamanhoPopulacao, int estagnacao, int geracoesDesdeImigracao) {
+        if (estagnacao < limiteEstagnacao || geracoesDesdeImigracao < limiteEstagnacao) {
+            return 0;
+        }
+        return (int) Math.ceil(tamanhoPopulacao * fracaoImigrantes);
+    }
+}
@@ -2,123 +2,330 @@ package puzzle.model;
 
 import java.util.*;
 
+// Visão de uma posição de uma Populacao. Os construtores públicos criam uma população avulsa de uma posição; no
+// algoritmo genético as visões são fixas e o conteúdo da posição muda a cada geração.
 public final class Cromossomo {
-    private final PuzzleModel tabuleiroInicial;
-    private List<String> movimentos;
-    private double fitness;
-    private double distancia;
-    private double custoMovimentos;
+    private final Populacao dados;
+    private final int indice;
     private int geracaoEncontrada;
-    
-    public static final List<String> MOVIMENTOS_VALIDOS = 
-        Collections.unmodifiableList(Arrays.asList("cima", "baixo", "esquerda", "direita"));
+
     private static final double PENALIDADE_TAMANHO = 0.0001;
-    private static final Random random = new Random();
+    private static final int INTERVALO_PREFIXO = Populacao.INTERVALO_PREFIXO;
+
+    public Cromossomo(PuzzleModel tabuleiroInicial, SplittableRandom random) {
+        this(tabuleiroInicial, Heuristica.MANHATTAN, random);
+    }
+
+    public Cromossomo(PuzzleModel tabuleiroInicial, Heuristica heuristica, SplittableRandom random) {
+        this(tabuleiroInicial, heuristica, null, random);
+    }
+
+    Cromossomo(PuzzleModel tabuleiroInicial, Heuristica heuristica, MemoAvaliacao memo, SplittableRandom random) {
+        this(new Populacao(tabuleiroInicial.copia(), heuristica, memo, 1), 0);
+        sortear(random);
+    }
 
-    public Cromossomo(PuzzleModel tabuleiroInicial) {
-        this.tabuleiroInicial = tabuleiroInicial.copia();
-        this.movimentos = new ArrayList<>();
-        int numMovimentos = random.nextInt(26) + 15;
+    Cromossomo(Populacao dados, int indice) {
+        this.dados = dados;
+        this.indice = indice;
+    }
+
+    // Cromossomo avulso sem genes, para o mesmo tabuleiro, heurística e memória
+    private Cromossomo avulso() {
+        return new Cromossomo(new Populacao(dados.tabuleiroInicial, dados.heuristica, dados.memo, 1), 0);
+    }
+
+    // Troca os genes por uma sequência aleatória de 15 a 40 movimentos no 3×3, crescendo com o número de posições
+    // do tabuleiro
+    void sortear(SplittableRandom random) {
+        int minimo = dados.tabuleiroInicial.getTotalCelulas() * 5 / 3;
+        int numMovimentos = random.nextInt(minimo * 5 / 3 + 1) + minimo;
+        byte[] genes = dados.reservarGenes(indice, numMovimentos);
         for (int i = 0; i < numMovimentos; i++) {
-            movimentos.add(MOVIMENTOS_VALIDOS.get(random.nextInt(MOVIMENTOS_VALIDOS.size())));
+            genes[i] = (byte) random.nextInt(Movimento.TOTAL);
         }
-        calcularFitness();
+        dados.tamanhos[indice] = numMovimentos;
+        dados.prefixosValidos[indice] = 0;
+        dados.avaliados[indice] = false;
     }
 
-    public void calcularFitness() {
-        PuzzleModel copia = tabuleiroInicial.copia();
-        copia.aplicarMovimentos(movimentos);
-        this.distancia = copia.calcularDistanciaManhattan();
-        this.custoMovimentos = movimentos.size() * PENALIDADE_TAMANHO;
-        this.fitness = distancia + custoMovimentos;
-        
+    // Reproduz os genes brutos a partir do último ponto de controle válido. Movimentos barrados pela borda e pares
+    // que se desfazem continuam no genoma: são variação neutra que mantém a diversidade, e só saem na sequência
+    // efetiva entregue como solução
+    private PuzzleModel reproduzir(PuzzleModel tabuleiro) {
+        MemoAvaliacao memo = dados.memo;
+        byte[] genes = dados.genes[indice];
+        int tamanho = dados.tamanhos[indice];
+        int bloco = dados.prefixosValidos[indice] / INTERVALO_PREFIXO;
+        int extra = dados.extrasPrefixo[indice][bloco];
+        tabuleiro.restaurar(dados.estadosPrefixo[indice][bloco], dados.altosPrefixo[indice][bloco], extra & 0xFF,
+                extra >>> 8);
+        int i = bloco * INTERVALO_PREFIXO;
+        if (memo != null) {
+            // Blocos completos passam pela memória da execução; só o bloco final incompleto é sempre reproduzido
+            for (; i + INTERVALO_PREFIXO <= tamanho; i += INTERVALO_PREFIXO) {
+                long estado = tabuleiro.getEstado();
+                long estadoAlto = tabuleiro.getEstadoAlto();
+                int genesBloco = empacotarBloco(genes, i);
+                boolean conhecido = memo.avancarBloco(tabuleiro, genesBloco);
+                if (!conhecido) {
+                    for (int j = i; j < i + INTERVALO_PREFIXO; j++) {
+                        tabuleiro.mover(genes[j]);
+                    }
+                }
+                int proximo = (i + INTERVALO_PREFIXO) / INTERVALO_PREFIXO;
+                dados.registrarPrefixo(indice, proximo, tabuleiro);
+                if (!conhecido) {
+                    memo.registrarBloco(estado, estadoAlto, genesBloco, tabuleiro,
+                            dados.extrasPrefixo[indice][proximo]);
+                }
+            }
+        }
+        for (; i < tamanho; i++) {
+            tabuleiro.mover(genes[i]);
+            if ((i + 1) % INTERVALO_PREFIXO == 0) {
+                dados.registrarPrefixo(indice, (i + 1) / INTERVALO_PREFIXO, tabuleiro);
+            }
+        }
+        dados.prefixosValidos[indice] = tamanho;
+        return tabuleiro;
+    }
+
+    // Os 8 genes de um bloco, 2 bits cada
+    private static int empacotarBloco(byte[] genes, int inicio) {
+        int empacotado = 0;
+        for (int j = inicio; j < inicio + INTERVALO_PREFIXO; j++) {
+            empacotado = (empacotado << 2) | genes[j];
+        }
+        return empacotado;
+    }
+
+    public boolean avaliar() {
+        if (dados.avaliados[indice]) {
+            return false;
+        }
+        calcularFitness(dados.tabuleiroInicial.copia());
+        return true;
+    }
+
+    // Avalia reaproveitando um tabuleiro de trabalho do mesmo tamanho, que fica com o estado final
+    boolean avaliar(PuzzleModel rascunho) {
+        if (dados.avaliados[indice]) {
+            return false;
+        }
+        calcularFitness(rascunho);
+        return true;
+    }
+
+    private void calcularFitness(PuzzleModel rascunho) {
+        dados.avaliados[indice] = true;
+        PuzzleModel copia = reproduzir(rascunho);
+        dados.estadosFinais[indice] = copia.getEstado();
+        dados.altosFinais[indice] = copia.getEstadoAlto();
         if (copia.isSolucionado()) {
-            this.fitness = 0.0;
-            this.distancia = 0.0;
-            this.custoMovimentos = 0.0;
+            dados.fitness[indice] = 0.0;
+            dados.distancias[indice] = 0.0;
+            dados.custosMovimentos[indice] = 0.0;
+            return;
+        }
+        double distancia = estimar(copia);
+        double custoMovimentos = dados.tamanhos[indice] * PENALIDADE_TAMANHO;
+        dados.distancias[indice] = distancia;
+        dados.custosMovimentos[indice] = custoMovimentos;
+        dados.fitness[indice] = distancia + custoMovimentos;
+    }
+
+    private int estimar(PuzzleModel tabuleiro) {
+        MemoAvaliacao memo = dados.memo;
+        if (memo == null || !memo.memorizaHeuristica()) {
+            return dados.heuristica.estimar(tabuleiro);
         }
+        int valor = memo.obterHeuristica(tabuleiro);
+        if (valor < 0) {
+            valor = dados.heuristica.estimar(tabuleiro);
+            memo.registrarHeuristica(tabuleiro, valor);
+        }
+        return valor;
     }
 
-    public void mutar() {
-        if (random.nextDouble() < 0.5 || movimentos.isEmpty()) {
-            String ultimo = movimentos.isEmpty() ? "" : movimentos.get(movimentos.size()-1);
-            String novo;
+    public void mutar(SplittableRandom random) {
+        int tamanho = dados.tamanhos[indice];
+        byte[] genes = dados.genes[indice];
+        if (random.nextDouble() < 0.5 || tamanho == 0) {
+            int ultimo = tamanho == 0 ? -1 : genes[tamanho - 1];
+            int novo;
             do {
-                novo = MOVIMENTOS_VALIDOS.get(random.nextInt(MOVIMENTOS_VALIDOS.size()));
-            } while (isMovimentoOposto(ultimo, novo));
-            movimentos.add(novo);
+                novo = random.nextInt(Movimento.TOTAL);
+            } while (Movimento.isOposto(ultimo, novo));
+            genes = dados.ampliarGenes(indice, tamanho + 1);
+            dados.prefixosValidos[indice] = Math.min(dados.prefixosValidos[indice], tamanho);
+            genes[tamanho] = (byte) novo;
+            dados.tamanhos[indice] = tamanho + 1;
         } else {
-            int index = random.nextInt(movimentos.size());
-            String anterior = index > 0 ? movimentos.get(index-1) : "";
-            String novo;
+            int index = random.nextInt(tamanho);
+            int anterior = index > 0 ? genes[index - 1] : -1;
+            int novo;
             do {
-                novo = MOVIMENTOS_VALIDOS.get(random.nextInt(MOVIMENTOS_VALIDOS.size()));
-            } while (isMovimentoOposto(anterior, novo));
-            movimentos.set(index, novo);
+                novo = random.nextInt(Movimento.TOTAL);
+            } while (Movimento.isOposto(anterior, novo));
+            genes[index] = (byte) novo;
+            dados.prefixosValidos[indice] = Math.min(dados.prefixosValidos[indice], index);
         }
-        calcularFitness();
+        dados.avaliados[indice] = false;
     }
 
-    private boolean isMovimentoOposto(String m1, String m2) {
-        return (m1.equals("cima") && m2.equals("baixo")) ||
-               (m1.equals("baixo") && m2.equals("cima")) ||
-               (m1.equals("esquerda") && m2.equals("direita")) ||
-               (m1.equals("direita") && m2.equals("esquerda"));
+    public static Cromossomo[] crossover(Cromossomo pai1, Cromossomo pai2) {
+        Cromossomo[] filhos = {pai1.avulso(), pai1.avulso()};
+        Crossover.MEIO.cruzar(pai1, pai2, filhos[0], filhos[1], null);
+        return filhos;
     }
 
-    public static Cromossomo[] crossover(Cromossomo pai1, Cromossomo pai2) {
-        if (pai2.getFitness() < pai1.getFitness()) {
-            Cromossomo temp = pai1;
-            pai1 = pai2;
-            pai2 = temp;
-        }
+    // Linha onde o crossover monta os genes deste cromossomo antes de chamar herdar; o conteúdo anterior se perde
+    byte[] reservarGenes(int capacidade) {
+        return dados.reservarGenes(indice, capacidade);
+    }
 
-        int pontoCorte = Math.min(pai1.movimentos.size(), pai2.movimentos.size()) / 2;
-        List<String> genesFilho1 = new ArrayList<>(pai1.movimentos.subList(0, pontoCorte));
-        genesFilho1.addAll(pai2.movimentos.subList(pontoCorte, pai2.movimentos.size()));
+    // Fecha a montagem dos genes: os pontos de controle do pai continuam valendo até o prefixo que os dois
+    // compartilham
+    void herdar(Cromossomo pai, int tamanho, int prefixoComum) {
+        int prefixoValido = Math.min(prefixoComum, pai.dados.prefixosValidos[pai.indice]);
+        dados.copiarPrefixos(indice, pai.dados, pai.indice, prefixoValido / INTERVALO_PREFIXO + 1);
+        dados.tamanhos[indice] = tamanho;
+        dados.prefixosValidos[indice] = prefixoValido;
+        dados.avaliados[indice] = false;
+    }
 
-        List<String> genesFilho2 = new ArrayList<>(pai2.movimentos.subList(0, pontoCorte));
-        genesFilho2.addAll(pai1.movimentos.subList(pontoCorte, pai1.movimentos.size()));
+    void copiarGenes(int inicio, byte[] destino, int posicao, int quantidade) {
+        System.arraycopy(dados.genes[indice], inicio, destino, posicao, quantidade);
+    }
 
-        Cromossomo filho1 = new Cromossomo(pai1.tabuleiroInicial);
-        filho1.setMovimentos(genesFilho1);
+    // Tabuleiro após cada prefixo dos genes: estados[i] (e altos[i] no 5×5) para i em [0, tamanho]; o tabuleiro de
+    // trabalho pode ser de qualquer tamanho
+    void registrarEstados(long[] estados, long[] altos, PuzzleModel tabuleiro) {
+        tabuleiro.copiarDe(dados.tabuleiroInicial);
+        byte[] genes = dados.genes[indice];
+        estados[0] = tabuleiro.getEstado();
+        altos[0] = tabuleiro.getEstadoAlto();
+        for (int i = 0; i < dados.tamanhos[indice]; i++) {
+            tabuleiro.mover(genes[i]);
+            estados[i + 1] = tabuleiro.getEstado();
+            altos[i + 1] = tabuleiro.getEstadoAlto();
+        }
+    }
 
-        Cromossomo filho2 = new Cromossomo(pai2.tabuleiroInicial);
-        filho2.setMovimentos(genesFilho2);
+    // Passa a ter os genes e a avaliação de outro cromossomo, possivelmente de outra população
+    void copiar(Cromossomo origem) {
+        Populacao de = origem.dados;
+        int i = origem.indice;
+        int tamanho = de.tamanhos[i];
+        System.arraycopy(de.genes[i], 0, dados.reservarGenes(indice, tamanho), 0, tamanho);
+        dados.copiarPrefixos(indice, de, i, de.prefixosValidos[i] / INTERVALO_PREFIXO + 1);
+        dados.tamanhos[indice] = tamanho;
+        dados.prefixosValidos[indice] = de.prefixosValidos[i];
+        dados.avaliados[indice] = de.avaliados[i];
+        dados.fitness[indice] = de.fitness[i];
+        dados.distancias[indice] = de.distancias[i];
+        dados.custosMovimentos[indice] = de.custosMovimentos[i];
+        dados.estadosFinais[indice] = de.estadosFinais[i];
+        dados.altosFinais[indice] = de.altosFinais[i];
+    }
 
-        return new Cromossomo[]{filho1, filho2};
+    // Cópia avulsa e independente, já avaliada, que não muda com a população; serve para guardar o melhor e para
+    // entregar a outra thread
+    Cromossomo copia() {
+        Cromossomo copia = avulso();
+        copia.copiar(this);
+        copia.geracaoEncontrada = geracaoEncontrada;
+        return copia;
     }
 
     public int[] aplicarMovimentos() {
-        PuzzleModel copia = tabuleiroInicial.copia();
-        copia.aplicarMovimentos(movimentos);
-        return copia.toArray1D();
+        return reproduzir(dados.tabuleiroInicial.copia()).toArray1D();
     }
 
     // Getters e Setters
+    public void setGenes(byte[] genes, int tamanho) {
+        System.arraycopy(genes, 0, dados.reservarGenes(indice, tamanho), 0, tamanho);
+        dados.tamanhos[indice] = tamanho;
+        dados.prefixosValidos[indice] = 0;
+        dados.avaliados[indice] = false;
+    }
+
     public void setMovimentos(List<String> movimentos) {
-        this.movimentos = new ArrayList<>(movimentos);
-        calcularFitness();
+        byte[] novosGenes = new byte[movimentos.size()];
+        for (int i = 0; i < novosGenes.length; i++) {
+            novosGenes[i] = Movimento.deNome(movimentos.get(i)).getCodigo();
+        }
+        setGenes(novosGenes, novosGenes.length);
     }
 
     public double getFitness() {
-        return fitness;
+        avaliar();
+        return dados.fitness[indice];
     }
 
+    public byte[] getGenes() {
+        return Arrays.copyOf(dados.genes[indice], dados.tamanhos[indice]);
+    }
+
+    // Sequência efetiva: movimentos barrados pela borda são descartados e um movimento que desfaz o anterior
+    // remove os dois. É o que vai para a solução, o cache e a animação; chega ao mesmo tabuleiro que os genes
+    public byte[] getGenesEfetivos() {
+        PuzzleModel tabuleiro = dados.tabuleiroInicial.copia();
+        byte[] genes = dados.genes[indice];
+        int tamanho = dados.tamanhos[indice];
+        byte[] efetivos = new byte[tamanho];
+        int total = 0;
+        for (int i = 0; i < tamanho; i++) {
+            if (total > 0 && Movimento.isOposto(efetivos[total - 1], genes[i])) {
+                tabuleiro.mover(genes[i]);
+                total--;
+            } else if (tabuleiro.mover(genes[i])) {
+                efetivos[total++] = genes[i];
+            }
+        }
+        return Arrays.copyOf(efetivos, total);
+    }
+
+    public byte getGene(int indice) {
+        return dados.genes[this.indice][indice];
+    }
+
+    public int getTamanho() {
+        return dados.tamanhos[indice];
+    }
+
+    // Nomes dos movimentos da sequência efetiva
     public List<String> getMovimentos() {
+        byte[] efetivos = getGenesEfetivos();
+        List<String> movimentos = new ArrayList<>(efetivos.length);
+        for (byte gene : efetivos) {
+            movimentos.add(Movimento.deCodigo(gene).getNome());
+        }
         return Collections.unmodifiableList(movimentos);
     }
 
     public PuzzleModel getTabuleiroInicial() {
-        return tabuleiroInicial;
+        return dados.tabuleiroInicial;
     }
 
     public double getDistancia() {
-        return distancia;
+        avaliar();
+        return dados.distancias[indice];
+    }
+
+    // Tabuleiro final empacotado; vale depois da avaliação
+    long getEstadoFinal() {
+        return dados.estadosFinais[indice];
+    }
+
+    long getEstadoFinalAlto() {
+        return dados.altosFinais[indice];
     }
 
     public double getCustoMovimentos() {
-        return custoMovimentos;
+        avaliar();
+        return dados.custosMovimentos[indice];
     }
 
     public int getGeracaoEncontrada() {
@@ -128,4 +335,4 @@ public final class Cromossomo {
     public void setGeracaoEncontrada(int geracao) {
         this.geracaoEncontrada = geracao;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,13 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+public interface Crossover {
+
+    Crossover MEIO = new CrossoverMeio();
+
+    String getNome();
+
+    // Escreve os dois filhos em filho1 e filho2, que não podem ser nenhum dos pais
+    void cruzar(Cromossomo pai1, Cromossomo pai2, Cromossomo filho1, Cromossomo filho2, SplittableRandom random);
+}
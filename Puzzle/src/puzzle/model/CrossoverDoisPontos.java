@@ -0,0 +1,32 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+// Cada filho troca o trecho [inicio, fim) pelo do outro pai
+public final class CrossoverDoisPontos implements Crossover {
+
+    @Override
+    public String getNome() {
+        return "Dois pontos";
+    }
+
+    @Override
+    public void cruzar(Cromossomo pai1, Cromossomo pai2, Cromossomo filho1, Cromossomo filho2,
+            SplittableRandom random) {
+        int limite = Math.min(pai1.getTamanho(), pai2.getTamanho()) + 1;
+        int a = random.nextInt(limite);
+        int b = random.nextInt(limite);
+        int inicio = Math.min(a, b);
+        int fim = Math.max(a, b);
+        trocarTrecho(pai1, pai2, inicio, fim, filho1);
+        trocarTrecho(pai2, pai1, inicio, fim, filho2);
+    }
+
+    private static void trocarTrecho(Cromossomo base, Cromossomo doador, int inicio, int fim, Cromossomo filho) {
+        int tamanho = base.getTamanho();
+        byte[] genes = filho.reservarGenes(tamanho);
+        base.copiarGenes(0, genes, 0, tamanho);
+        doador.copiarGenes(inicio, genes, inicio, fim - inicio);
+        filho.herdar(base, tamanho, inicio);
+    }
+}
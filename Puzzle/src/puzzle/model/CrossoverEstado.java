@@ -0,0 +1,136 @@
+package puzzle.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+// Corta os pais onde os dois passam pelo mesmo tabuleiro: o prefixo de um leva ao ponto exato onde o sufixo do
+// outro começa, então cada filho termina no mesmo estado final do pai que deu o sufixo, só que por outro caminho.
+// Sem estado em comum fora do início e do fim, cai no corte em um ponto.
+public final class CrossoverEstado implements Crossover {
+    private static final int VAZIO = -1;
+
+    // O crossover roda dentro dos blocos paralelos da geração, então cada thread tem os seus vetores de trabalho
+    private static final ThreadLocal<Rascunho> RASCUNHOS = ThreadLocal.withInitial(Rascunho::new);
+
+    @Override
+    public String getNome() {
+        return "Por estado";
+    }
+
+    @Override
+    public void cruzar(Cromossomo pai1, Cromossomo pai2, Cromossomo filho1, Cromossomo filho2,
+            SplittableRandom random) {
+        int tamanho1 = pai1.getTamanho();
+        int tamanho2 = pai2.getTamanho();
+        Rascunho rascunho = RASCUNHOS.get();
+        rascunho.reservar(tamanho1, tamanho2);
+        pai1.registrarEstados(rascunho.estados1, rascunho.altos1, rascunho.tabuleiro);
+        pai2.registrarEstados(rascunho.estados2, rascunho.altos2, rascunho.tabuleiro);
+        rascunho.indexar(tamanho1);
+
+        // Sorteio uniforme entre os pares em comum por amostragem de reservatório, sem guardar a lista: cada posição
+        // do segundo pai forma par com todas as ocorrências do seu estado no primeiro e entra com esse peso
+        int corte2 = -1;
+        int entrada = VAZIO;
+        int encontrados = 0;
+        for (int j = 1; j < tamanho2; j++) {
+            int e = rascunho.buscar(rascunho.estados2[j], rascunho.altos2[j]);
+            if (e == VAZIO) {
+                continue;
+            }
+            int ocorrencias = rascunho.contagens[e];
+            encontrados += ocorrencias;
+            if (random.nextInt(encontrados) < ocorrencias) {
+                corte2 = j;
+                entrada = e;
+            }
+        }
+        if (encontrados == 0) {
+            CrossoverUmPonto.cortar(pai1, pai2, random.nextInt(Math.min(tamanho1, tamanho2) + 1), filho1, filho2);
+            return;
+        }
+        int corte1 = rascunho.ocorrencia(entrada, random.nextInt(rascunho.contagens[entrada]));
+        CrossoverUmPonto.emenda(pai1, corte1, pai2, corte2, filho1);
+        CrossoverUmPonto.emenda(pai2, corte2, pai1, corte1, filho2);
+    }
+
+    // Estados dos prefixos dos dois pais e uma tabela aberta dos estados internos do primeiro: cada entrada guarda
+    // quantas vezes o estado aparece e a primeira posição, e proximas encadeia as demais
+    private static final class Rascunho {
+        final PuzzleModel tabuleiro = new PuzzleModel();
+        long[] estados1 = new long[0];
+        long[] altos1 = new long[0];
+        long[] estados2 = new long[0];
+        long[] altos2 = new long[0];
+        int[] proximas = new int[0];
+        long[] chaves = new long[0];
+        long[] chavesAltas = new long[0];
+        int[] primeiras = new int[0];
+        int[] contagens = new int[0];
+        int mascara;
+
+        void reservar(int tamanho1, int tamanho2) {
+            if (estados1.length <= tamanho1) {
+                int capacidade = Math.max(tamanho1 + 1, estados1.length * 2);
+                estados1 = new long[capacidade];
+                altos1 = new long[capacidade];
+                proximas = new int[capacidade];
+            }
+            if (estados2.length <= tamanho2) {
+                int capacidade = Math.max(tamanho2 + 1, estados2.length * 2);
+                estados2 = new long[capacidade];
+                altos2 = new long[capacidade];
+            }
+            // Carga de no máximo 1/2
+            int entradas = Integer.highestOneBit(Math.max(8, tamanho1) * 2 - 1) * 2;
+            if (chaves.length < entradas) {
+                chaves = new long[entradas];
+                chavesAltas = new long[entradas];
+                primeiras = new int[entradas];
+                contagens = new int[entradas];
+            }
+            mascara = entradas - 1;
+            Arrays.fill(primeiras, 0, mascara + 1, VAZIO);
+        }
+
+        // Só os estados internos [1, tamanho1) podem ser corte: o início e o fim dariam filhos iguais aos pais
+        void indexar(int tamanho1) {
+            for (int i = tamanho1 - 1; i >= 1; i--) {
+                int e = posicao(estados1[i], altos1[i]);
+                if (primeiras[e] == VAZIO) {
+                    chaves[e] = estados1[i];
+                    chavesAltas[e] = altos1[i];
+                    contagens[e] = 0;
+                    proximas[i] = VAZIO;
+                } else {
+                    proximas[i] = primeiras[e];
+                }
+                primeiras[e] = i;
+                contagens[e]++;
+            }
+        }
+
+        int buscar(long estado, long estadoAlto) {
+            int e = posicao(estado, estadoAlto);
+            return primeiras[e] == VAZIO ? VAZIO : e;
+        }
+
+        // Entrada do estado ou a vaga onde ele entraria
+        private int posicao(long estado, long estadoAlto) {
+            int e = MapaEstados.espalhar(estado ^ Long.rotateLeft(estadoAlto * 0x9E3779B97F4A7C15L, 17)) & mascara;
+            while (primeiras[e] != VAZIO && (chaves[e] != estado || chavesAltas[e] != estadoAlto)) {
+                e = (e + 1) & mascara;
+            }
+            return e;
+        }
+
+        // k-ésima posição do primeiro pai com o estado da entrada
+        int ocorrencia(int entrada, int k) {
+            int i = primeiras[entrada];
+            for (; k > 0; k--) {
+                i = proximas[i];
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+// Corte fixo na metade do pai menor; o mais apto fornece o prefixo do primeiro filho
+public final class CrossoverMeio implements Crossover {
+
+    @Override
+    public String getNome() {
+        return "Meio";
+    }
+
+    @Override
+    public void cruzar(Cromossomo pai1, Cromossomo pai2, Cromossomo filho1, Cromossomo filho2,
+            SplittableRandom random) {
+        if (pai2.getFitness() < pai1.getFitness()) {
+            Cromossomo temp = pai1;
+            pai1 = pai2;
+            pai2 = temp;
+        }
+        int pontoCorte = Math.min(pai1.getTamanho(), pai2.getTamanho()) / 2;
+        CrossoverUmPonto.cortar(pai1, pai2, pontoCorte, filho1, filho2);
+    }
+}
@@ -0,0 +1,32 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+public final class CrossoverUmPonto implements Crossover {
+
+    @Override
+    public String getNome() {
+        return "Um ponto";
+    }
+
+    @Override
+    public void cruzar(Cromossomo pai1, Cromossomo pai2, Cromossomo filho1, Cromossomo filho2,
+            SplittableRandom random) {
+        int pontoCorte = random.nextInt(Math.min(pai1.getTamanho(), pai2.getTamanho()) + 1);
+        cortar(pai1, pai2, pontoCorte, filho1, filho2);
+    }
+
+    static void cortar(Cromossomo pai1, Cromossomo pai2, int pontoCorte, Cromossomo filho1, Cromossomo filho2) {
+        emenda(pai1, pontoCorte, pai2, pontoCorte, filho1);
+        emenda(pai2, pontoCorte, pai1, pontoCorte, filho2);
+    }
+
+    // Genes [0, corteInicio) do primeiro pai seguidos dos genes [corteFim, fim) do segundo
+    static void emenda(Cromossomo inicio, int corteInicio, Cromossomo fim, int corteFim, Cromossomo filho) {
+        int tamanho = corteInicio + fim.getTamanho() - corteFim;
+        byte[] genes = filho.reservarGenes(tamanho);
+        inicio.copiarGenes(0, genes, 0, corteInicio);
+        fim.copiarGenes(corteFim, genes, corteInicio, tamanho - corteInicio);
+        filho.herdar(inicio, tamanho, corteInicio);
+    }
+}
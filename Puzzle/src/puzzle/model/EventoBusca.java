@@ -0,0 +1,56 @@
+package puzzle.model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public final class EventoBusca {
+
+    public enum Tipo {
+        INICIO,
+        CACHE,
+        GERACAO,
+        AJUSTE,
+        INTERRUPCAO,
+        FIM
+    }
+
+    private final Tipo tipo;
+    private final long instante;
+    private final Map<String, Object> dados = new LinkedHashMap<>();
+
+    public EventoBusca(Tipo tipo) {
+        this.tipo = tipo;
+        this.instante = System.currentTimeMillis();
+    }
+
+    public EventoBusca com(String chave, Object valor) {
+        dados.put(chave, valor);
+        return this;
+    }
+
+    public Tipo getTipo() {
+        return tipo;
+    }
+
+    public long getInstante() {
+        return instante;
+    }
+
+    public Object get(String chave) {
+        return dados.get(chave);
+    }
+
+    public Map<String, Object> getDados() {
+        return Collections.unmodifiableMap(dados);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(tipo.name());
+        for (Map.Entry<String, Object> entrada : dados.entrySet()) {
+            sb.append(' ').append(entrada.getKey()).append('=').append(entrada.getValue());
+        }
+        return sb.toString();
+    }
+}
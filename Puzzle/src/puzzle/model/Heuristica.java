@@ -0,0 +1,10 @@
+package puzzle.model;
+
+public interface Heuristica {
+
+    Heuristica MANHATTAN = new HeuristicaManhattan();
+
+    String getNome();
+
+    int estimar(PuzzleModel tabuleiro);
+}
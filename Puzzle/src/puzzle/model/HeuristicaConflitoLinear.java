@@ -0,0 +1,50 @@
+package puzzle.model;
+
+public final class HeuristicaConflitoLinear implements Heuristica {
+
+    @Override
+    public String getNome() {
+        return "Conflito linear";
+    }
+
+    // Duas peças na sua linha (ou coluna) de destino, mas em ordem trocada, obrigam uma delas a sair e voltar:
+    // +2 movimentos por peça fora da maior subsequência crescente de destinos daquela linha
+    @Override
+    public int estimar(PuzzleModel tabuleiro) {
+        int dimensao = tabuleiro.getDimensao();
+        int conflitos = 0;
+        for (int linha = 0; linha < dimensao; linha++) {
+            int total = 0;
+            int caudas = 0;
+            for (int coluna = 0; coluna < dimensao; coluna++) {
+                int valor = tabuleiro.valorEm(linha * dimensao + coluna);
+                if (valor != 0 && valor / dimensao == linha) {
+                    caudas = acrescentar(caudas, valor % dimensao);
+                    total++;
+                }
+            }
+            conflitos += total - Integer.bitCount(caudas);
+        }
+        for (int coluna = 0; coluna < dimensao; coluna++) {
+            int total = 0;
+            int caudas = 0;
+            for (int linha = 0; linha < dimensao; linha++) {
+                int valor = tabuleiro.valorEm(linha * dimensao + coluna);
+                if (valor != 0 && valor % dimensao == coluna) {
+                    caudas = acrescentar(caudas, valor / dimensao);
+                    total++;
+                }
+            }
+            conflitos += total - Integer.bitCount(caudas);
+        }
+        return tabuleiro.calcularDistanciaManhattan() + 2 * conflitos;
+    }
+
+    // Maior subsequência crescente por paciência, sem vetores: os destinos de uma linha são distintos e menores
+    // que a dimensão, então as caudas das pilhas cabem num int, um bit por destino. O destino substitui a menor
+    // cauda maior que ele, e o número de caudas é o tamanho da subsequência
+    private static int acrescentar(int caudas, int destino) {
+        int maiores = caudas & -(1 << destino);
+        return (caudas & ~Integer.lowestOneBit(maiores)) | (1 << destino);
+    }
+}
@@ -0,0 +1,14 @@
+package puzzle.model;
+
+public final class HeuristicaManhattan implements Heuristica {
+
+    @Override
+    public String getNome() {
+        return "Manhattan";
+    }
+
+    @Override
+    public int estimar(PuzzleModel tabuleiro) {
+        return tabuleiro.calcularDistanciaManhattan();
+    }
+}
@@ -0,0 +1,327 @@
+package puzzle.model;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+
+public final class HeuristicaPadroes implements Heuristica {
+    private static final int CABECALHO = 0x50444241;
+    private static final byte DESCONHECIDA = -1;
+    // estimar roda para cada indivíduo avaliado, em paralelo: a posição de cada peça vai para um vetor por thread
+    private static final ThreadLocal<int[]> POSICOES =
+            ThreadLocal.withInitial(() -> new int[PuzzleModel.DIMENSAO_MAXIMA * PuzzleModel.DIMENSAO_MAXIMA]);
+    // Peças por grupo em cada dimensão: 5-5-5 no 15-puzzle e grupos de 4 no 24-puzzle mantêm cada tabela abaixo
+    // de 1 MB e a construção em poucos segundos
+    private static final int[] PECAS_POR_GRUPO = {0, 0, 3, 4, 5, 4};
+    private static final HeuristicaPadroes[] PADRAO = new HeuristicaPadroes[PuzzleModel.DIMENSAO_MAXIMA + 1];
+
+    private final int dimensao;
+    private final int celulas;
+    private final int[][] grupos;
+    private final Path arquivo;
+    private volatile byte[][] tabelas;
+
+    public HeuristicaPadroes(int dimensao, Path diretorio) {
+        this(dimensao, gruposConsecutivos(dimensao), diretorio);
+    }
+
+    public HeuristicaPadroes(int dimensao, int[][] grupos, Path diretorio) {
+        if (dimensao < PuzzleModel.DIMENSAO_MINIMA || dimensao > PuzzleModel.DIMENSAO_MAXIMA) {
+            throw new IllegalArgumentException("Dimensão inválida: " + dimensao);
+        }
+        this.dimensao = dimensao;
+        this.celulas = dimensao * dimensao;
+        this.grupos = new int[grupos.length][];
+        boolean[] usadas = new boolean[celulas];
+        for (int g = 0; g < grupos.length; g++) {
+            this.grupos[g] = grupos[g].clone();
+            for (int peca : grupos[g]) {
+                if (peca <= 0 || peca >= celulas || usadas[peca]) {
+                    throw new IllegalArgumentException("Grupos de peças inválidos: " + Arrays.deepToString(grupos));
+                }
+                usadas[peca] = true;
+            }
+        }
+        this.arquivo = diretorio == null ? null : diretorio.resolve("padroes-" + dimensao + "x" + dimensao + "-"
+                + Integer.toHexString(Arrays.deepHashCode(this.grupos)) + ".pdb");
+    }
+
+    public static HeuristicaPadroes padrao(int dimensao) {
+        if (dimensao < PuzzleModel.DIMENSAO_MINIMA || dimensao > PuzzleModel.DIMENSAO_MAXIMA) {
+            throw new IllegalArgumentException("Dimensão inválida: " + dimensao);
+        }
+        synchronized (PADRAO) {
+            if (PADRAO[dimensao] == null) {
+                Path diretorio = Paths.get(System.getProperty("user.home"), ".puzzle");
+                PADRAO[dimensao] = new HeuristicaPadroes(dimensao, diretorio);
+            }
+            return PADRAO[dimensao];
+        }
+    }
+
+    private static int[][] gruposConsecutivos(int dimensao) {
+        if (dimensao < PuzzleModel.DIMENSAO_MINIMA || dimensao > PuzzleModel.DIMENSAO_MAXIMA) {
+            throw new IllegalArgumentException("Dimensão inválida: " + dimensao);
+        }
+        int pecas = dimensao * dimensao - 1;
+        int porGrupo = PECAS_POR_GRUPO[dimensao];
+        int[][] grupos = new int[(pecas + porGrupo - 1) / porGrupo][];
+        for (int g = 0; g < grupos.length; g++) {
+            grupos[g] = new int[Math.min(porGrupo, pecas - g * porGrupo)];
+            for (int i = 0; i < grupos[g].length; i++) {
+                grupos[g][i] = g * porGrupo + i + 1;
+            }
+        }
+        return grupos;
+    }
+
+    @Override
+    public String getNome() {
+        return "Banco de padrões";
+    }
+
+    // Os grupos são disjuntos e cada tabela só conta os movimentos das próprias peças, então a soma é admissível
+    @Override
+    public int estimar(PuzzleModel tabuleiro) {
+        if (tabuleiro.getDimensao() != dimensao) {
+            throw new IllegalArgumentException("Banco de padrões construído para " + dimensao + "×" + dimensao);
+        }
+        byte[][] tabelas = tabelas();
+        int[] posicoes = POSICOES.get();
+        for (int pos = 0; pos < celulas; pos++) {
+            posicoes[tabuleiro.valorEm(pos)] = pos;
+        }
+        int total = 0;
+        for (int g = 0; g < grupos.length; g++) {
+            // Mesma numeração de indicePosicoes, lendo as posições do grupo direto do vetor por peça
+            int indice = 0;
+            int usadas = 0;
+            for (int i = 0; i < grupos[g].length; i++) {
+                int pos = posicoes[grupos[g][i]];
+                indice = indice * (celulas - i) + pos - Integer.bitCount(usadas & ((1 << pos) - 1));
+                usadas |= 1 << pos;
+            }
+            total += tabelas[g][indice];
+        }
+        return total;
+    }
+
+    private byte[][] tabelas() {
+        byte[][] atuais = tabelas;
+        if (atuais == null) {
+            synchronized (this) {
+                atuais = tabelas;
+                if (atuais == null) {
+                    atuais = carregarOuConstruir();
+                    tabelas = atuais;
+                }
+            }
+        }
+        return atuais;
+    }
+
+    private byte[][] carregarOuConstruir() {
+        if (arquivo != null && Files.isRegularFile(arquivo)) {
+            try {
+                return carregar();
+            } catch (IOException e) {
+                // Arquivo corrompido ou de outra versão: reconstrói e sobrescreve
+            }
+        }
+        byte[][] construidas = new byte[grupos.length][];
+        for (int g = 0; g < grupos.length; g++) {
+            construidas[g] = construir(grupos[g]);
+        }
+        if (arquivo != null) {
+            try {
+                salvar(construidas);
+            } catch (IOException e) {
+                // O cache em disco é só uma otimização; sem ele as tabelas são reconstruídas na próxima execução
+            }
+        }
+        return construidas;
+    }
+
+    private byte[][] carregar() throws IOException {
+        try (DataInputStream entrada = new DataInputStream(new BufferedInputStream(Files.newInputStream(arquivo)))) {
+            if (entrada.readInt() != CABECALHO || entrada.readInt() != dimensao || entrada.readInt() != grupos.length) {
+                throw new IOException("Arquivo não é um banco de padrões compatível: " + arquivo);
+            }
+            byte[][] carregadas = new byte[grupos.length][];
+            for (int g = 0; g < grupos.length; g++) {
+                if (entrada.readInt() != grupos[g].length) {
+                    throw new IOException("Arquivo não é um banco de padrões compatível: " + arquivo);
+                }
+                for (int peca : grupos[g]) {
+                    if (entrada.readInt() != peca) {
+                        throw new IOException("Arquivo não é um banco de padrões compatível: " + arquivo);
+                    }
+                }
+                carregadas[g] = new byte[entrada.readInt()];
+                if (carregadas[g].length != arranjos(grupos[g].length)) {
+                    throw new IOException("Tamanho inesperado do banco de padrões: " + carregadas[g].length);
+                }
+                entrada.readFully(carregadas[g]);
+            }
+            return carregadas;
+        }
+    }
+
+    private void salvar(byte[][] conteudo) throws IOException {
+        Files.createDirectories(arquivo.getParent());
+        Path temporario = arquivo.resolveSibling(arquivo.getFileName() + ".tmp");
+        try (DataOutputStream saida = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporario)))) {
+            saida.writeInt(CABECALHO);
+            saida.writeInt(dimensao);
+            saida.writeInt(grupos.length);
+            for (int g = 0; g < grupos.length; g++) {
+                saida.writeInt(grupos[g].length);
+                for (int peca : grupos[g]) {
+                    saida.writeInt(peca);
+                }
+                saida.writeInt(conteudo[g].length);
+                saida.write(conteudo[g]);
+            }
+        }
+        Files.move(temporario, arquivo, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private int arranjos(int tamanhoGrupo) {
+        int total = 1;
+        for (int i = 0; i < tamanhoGrupo; i++) {
+            total *= celulas - i;
+        }
+        return total;
+    }
+
+    private void decodificar(int indice, int tamanhoGrupo, int[] posicoes) {
+        int[] ordens = new int[tamanhoGrupo];
+        for (int i = tamanhoGrupo - 1; i >= 0; i--) {
+            ordens[i] = indice % (celulas - i);
+            indice /= celulas - i;
+        }
+        int usadas = 0;
+        for (int i = 0; i < tamanhoGrupo; i++) {
+            int pos = 0;
+            for (int livres = ordens[i]; ; pos++) {
+                if ((usadas & (1 << pos)) == 0 && livres-- == 0) {
+                    break;
+                }
+            }
+            posicoes[i] = pos;
+            usadas |= 1 << pos;
+        }
+    }
+
+    // Busca em largura sobre (posições do grupo, posição da vazia) a partir da solução. Mover a vazia sobre uma
+    // peça de fora do grupo custa 0, então cada camada é fechada por esses movimentos antes de passar à próxima
+    private byte[] construir(int[] grupo) {
+        int tamanhoGrupo = grupo.length;
+        int[] solucao = grupo.clone();
+        int arranjos = arranjos(tamanhoGrupo);
+        byte[] distancias = new byte[arranjos * celulas];
+        Arrays.fill(distancias, DESCONHECIDA);
+
+        int inicio = indicePosicoes(solucao, tamanhoGrupo) * celulas;
+        distancias[inicio] = 0;
+        int[] atual = {inicio};
+        int totalAtual = 1;
+        int[] proxima = new int[1024];
+        int[] posicoes = new int[tamanhoGrupo];
+        int[] ocupante = new int[celulas];
+        for (int distancia = 0; totalAtual > 0; distancia++) {
+            int totalProxima = 0;
+            while (totalAtual > 0) {
+                int estado = atual[--totalAtual];
+                if (distancias[estado] != distancia) {
+                    continue;
+                }
+                int vazia = estado % celulas;
+                int arranjo = estado / celulas;
+                decodificar(arranjo, tamanhoGrupo, posicoes);
+                Arrays.fill(ocupante, -1);
+                for (int i = 0; i < tamanhoGrupo; i++) {
+                    ocupante[posicoes[i]] = i;
+                }
+                for (int movimento = 0; movimento < Movimento.TOTAL; movimento++) {
+                    int destino = vizinho(vazia, movimento);
+                    if (destino < 0) {
+                        continue;
+                    }
+                    int peca = ocupante[destino];
+                    if (peca < 0) {
+                        int vizinhoEstado = arranjo * celulas + destino;
+                        int conhecida = distancias[vizinhoEstado];
+                        if (conhecida == DESCONHECIDA || conhecida > distancia) {
+                            distancias[vizinhoEstado] = (byte) distancia;
+                            if (totalAtual == atual.length) {
+                                atual = Arrays.copyOf(atual, atual.length * 2);
+                            }
+                            atual[totalAtual++] = vizinhoEstado;
+                        }
+                    } else {
+                        posicoes[peca] = vazia;
+                        int vizinhoEstado = indicePosicoes(posicoes, tamanhoGrupo) * celulas + destino;
+                        posicoes[peca] = destino;
+                        if (distancias[vizinhoEstado] == DESCONHECIDA) {
+                            distancias[vizinhoEstado] = (byte) (distancia + 1);
+                            if (totalProxima == proxima.length) {
+                                proxima = Arrays.copyOf(proxima, proxima.length * 2);
+                            }
+                            proxima[totalProxima++] = vizinhoEstado;
+                        }
+                    }
+                }
+            }
+            int[] troca = atual;
+            atual = proxima;
+            proxima = troca;
+            totalAtual = totalProxima;
+        }
+
+        byte[] tabela = new byte[arranjos];
+        for (int arranjo = 0; arranjo < arranjos; arranjo++) {
+            int minimo = Byte.MAX_VALUE;
+            for (int vazia = 0; vazia < celulas; vazia++) {
+                int distancia = distancias[arranjo * celulas + vazia];
+                if (distancia != DESCONHECIDA && distancia < minimo) {
+                    minimo = distancia;
+                }
+            }
+            tabela[arranjo] = (byte) minimo;
+        }
+        return tabela;
+    }
+
+    // Índice do arranjo ordenado das posições das peças do grupo: cada posição é numerada entre as ainda livres
+    private int indicePosicoes(int[] posicoes, int tamanhoGrupo) {
+        int indice = 0;
+        int usadas = 0;
+        for (int i = 0; i < tamanhoGrupo; i++) {
+            int pos = posicoes[i];
+            indice = indice * (celulas - i) + pos - Integer.bitCount(usadas & ((1 << pos) - 1));
+            usadas |= 1 << pos;
+        }
+        return indice;
+    }
+
+    private int vizinho(int pos, int movimento) {
+        switch (movimento) {
+            case 0:
+                return pos >= dimensao ? pos - dimensao : -1;
+            case 1:
+                return pos < celulas - dimensao ? pos + dimensao : -1;
+            case 2:
+                return pos % dimensao > 0 ? pos - 1 : -1;
+            default:
+                return pos % dimensao < dimensao - 1 ? pos + 1 : -1;
+        }
+    }
+}
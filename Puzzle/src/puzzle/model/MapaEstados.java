@@ -0,0 +1,86 @@
+package puzzle.model;
+
+import java.util.Arrays;
+
+// Tabela de espalhamento aberta de estados empacotados para índices, sem objetos por entrada
+final class MapaEstados {
+    private static final int AUSENTE = -1;
+    private static final double CARGA_MAXIMA = 0.6;
+
+    private long[] chaves;
+    private int[] valores;
+    private boolean[] ocupados;
+    private int tamanho;
+    private int limite;
+
+    MapaEstados(int capacidadeInicial) {
+        int capacidade = Integer.highestOneBit(Math.max(16, (int) (capacidadeInicial / CARGA_MAXIMA)) * 2 - 1);
+        alocar(capacidade);
+    }
+
+    private void alocar(int capacidade) {
+        chaves = new long[capacidade];
+        valores = new int[capacidade];
+        ocupados = new boolean[capacidade];
+        limite = (int) (capacidade * CARGA_MAXIMA);
+        tamanho = 0;
+    }
+
+    static int espalhar(long chave) {
+        long h = chave * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    int obter(long chave) {
+        int mascara = chaves.length - 1;
+        for (int i = espalhar(chave) & mascara; ocupados[i]; i = (i + 1) & mascara) {
+            if (chaves[i] == chave) {
+                return valores[i];
+            }
+        }
+        return AUSENTE;
+    }
+
+    void colocar(long chave, int valor) {
+        int mascara = chaves.length - 1;
+        int i = espalhar(chave) & mascara;
+        while (ocupados[i]) {
+            if (chaves[i] == chave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        valores[i] = valor;
+        ocupados[i] = true;
+        if (++tamanho > limite) {
+            redimensionar();
+        }
+    }
+
+    private void redimensionar() {
+        long[] chavesAntigas = chaves;
+        int[] valoresAntigos = valores;
+        boolean[] ocupadosAntigos = ocupados;
+        alocar(chavesAntigas.length * 2);
+        for (int i = 0; i < chavesAntigas.length; i++) {
+            if (ocupadosAntigos[i]) {
+                colocar(chavesAntigas[i], valoresAntigos[i]);
+            }
+        }
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    void limpar() {
+        Arrays.fill(ocupados, false);
+        tamanho = 0;
+    }
+
+    static boolean ausente(int valor) {
+        return valor == AUSENTE;
+    }
+}
@@ -0,0 +1,108 @@
+package puzzle.model;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Memória de uma execução do algoritmo genético, compartilhada pelas threads sem travas: cada entrada guarda a
+// impressão digital da chave misturada por XOR com os dados, então uma entrada rasgada por escritas concorrentes
+// simplesmente não confere na leitura e conta como falha. As tabelas têm tamanho fixo e a escrita sobrescreve.
+final class MemoAvaliacao {
+    // Bloco de genes: estado no início do bloco + genes -> estado, posição vazia e distância no fim do bloco
+    private static final int PALAVRAS_BLOCO = 4;
+    // Estado final -> valor da heurística
+    private static final int PALAVRAS_HEURISTICA = 2;
+    private static final int BYTES_POR_PALAVRA = Long.BYTES;
+
+    private final long[] blocos;
+    private final long[] heuristicas;
+    private final int mascaraBlocos;
+    private final int mascaraHeuristicas;
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    // Com a heurística Manhattan a distância já vem incremental do tabuleiro e toda a memória fica com os blocos
+    MemoAvaliacao(long limiteBytes, boolean memorizarHeuristica) {
+        long palavras = limiteBytes / BYTES_POR_PALAVRA;
+        long palavrasHeuristica = memorizarHeuristica ? palavras / 4 : 0;
+        this.blocos = new long[entradas(palavras - palavrasHeuristica, PALAVRAS_BLOCO) * PALAVRAS_BLOCO];
+        this.mascaraBlocos = blocos.length / PALAVRAS_BLOCO - 1;
+        int entradasHeuristica = memorizarHeuristica ? entradas(palavrasHeuristica, PALAVRAS_HEURISTICA) : 0;
+        this.heuristicas = new long[entradasHeuristica * PALAVRAS_HEURISTICA];
+        this.mascaraHeuristicas = entradasHeuristica - 1;
+    }
+
+    private static int entradas(long palavras, int palavrasPorEntrada) {
+        long entradas = Math.max(1, Math.min(palavras / palavrasPorEntrada, Integer.MAX_VALUE / palavrasPorEntrada));
+        return Integer.highestOneBit((int) entradas);
+    }
+
+    // Cada parte passa pela mistura antes da próxima: combinar tudo por XOR de uma vez faria estados 4×4, que usam
+    // os 64 bits, colidirem com os genes
+    private static long impressao(long estado, long estadoAlto, int genes) {
+        return misturar(misturar(misturar(estado) ^ estadoAlto) ^ genes);
+    }
+
+    private static long misturar(long h) {
+        h = (h ^ (h >>> 30)) * 0xBF58476D1CE4E5B9L;
+        h = (h ^ (h >>> 27)) * 0x94D049BB133111EBL;
+        return h ^ (h >>> 31);
+    }
+
+    // Devolve true e deixa o tabuleiro no fim do bloco quando a transição já é conhecida
+    boolean avancarBloco(PuzzleModel tabuleiro, int genes) {
+        long chave = impressao(tabuleiro.getEstado(), tabuleiro.getEstadoAlto(), genes);
+        int i = ((int) chave & mascaraBlocos) * PALAVRAS_BLOCO;
+        long estado = blocos[i + 1];
+        long estadoAlto = blocos[i + 2];
+        long extra = blocos[i + 3];
+        if ((blocos[i] ^ estado ^ estadoAlto ^ extra) != chave) {
+            falhas.increment();
+            return false;
+        }
+        acertos.increment();
+        tabuleiro.restaurar(estado, estadoAlto, (int) extra & 0xFF, (int) (extra >>> 8));
+        return true;
+    }
+
+    void registrarBloco(long estadoInicial, long estadoAltoInicial, int genes, PuzzleModel tabuleiro, int extra) {
+        long chave = impressao(estadoInicial, estadoAltoInicial, genes);
+        int i = ((int) chave & mascaraBlocos) * PALAVRAS_BLOCO;
+        long estado = tabuleiro.getEstado();
+        long estadoAlto = tabuleiro.getEstadoAlto();
+        blocos[i] = chave ^ estado ^ estadoAlto ^ extra;
+        blocos[i + 1] = estado;
+        blocos[i + 2] = estadoAlto;
+        blocos[i + 3] = extra;
+    }
+
+    boolean memorizaHeuristica() {
+        return heuristicas.length > 0;
+    }
+
+    // -1 quando o estado não está na tabela
+    int obterHeuristica(PuzzleModel tabuleiro) {
+        long chave = impressao(tabuleiro.getEstado(), tabuleiro.getEstadoAlto(), -1);
+        int i = ((int) chave & mascaraHeuristicas) * PALAVRAS_HEURISTICA;
+        long valor = heuristicas[i + 1];
+        if ((heuristicas[i] ^ valor) != chave) {
+            falhas.increment();
+            return -1;
+        }
+        acertos.increment();
+        return (int) valor;
+    }
+
+    void registrarHeuristica(PuzzleModel tabuleiro, int valor) {
+        long chave = impressao(tabuleiro.getEstado(), tabuleiro.getEstadoAlto(), -1);
+        int i = ((int) chave & mascaraHeuristicas) * PALAVRAS_HEURISTICA;
+        heuristicas[i] = chave ^ valor;
+        heuristicas[i + 1] = valor;
+    }
+
+    long getAcertos() {
+        return acertos.sum();
+    }
+
+    long getConsultas() {
+        return acertos.sum() + falhas.sum();
+    }
+}
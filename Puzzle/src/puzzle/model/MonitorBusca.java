@@ -0,0 +1,22 @@
+package puzzle.model;
+
+public interface MonitorBusca {
+
+    MonitorBusca NULO = new MonitorBusca() {
+        @Override
+        public Verbosidade getVerbosidade() {
+            return Verbosidade.SILENCIOSO;
+        }
+
+        @Override
+        public void registrar(EventoBusca evento) {
+        }
+    };
+
+    Verbosidade getVerbosidade();
+
+    void registrar(EventoBusca evento);
+
+    default void concluir() {
+    }
+}
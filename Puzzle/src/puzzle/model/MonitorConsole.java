@@ -0,0 +1,224 @@
+package puzzle.model;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public final class MonitorConsole implements MonitorBusca {
+    private static final int CAPACIDADE_PADRAO = 4096;
+    private static final long ESPERA_MAXIMA_CONCLUSAO_MS = 2000;
+
+    private final Verbosidade verbosidade;
+    private final PrintStream saida;
+    private final BlockingQueue<EventoBusca> fila;
+    private final AtomicLong enfileirados = new AtomicLong();
+    private final AtomicLong descartados = new AtomicLong();
+    private volatile long escritos;
+
+    public MonitorConsole(Verbosidade verbosidade) {
+        this(verbosidade, System.out, CAPACIDADE_PADRAO);
+    }
+
+    public MonitorConsole(Verbosidade verbosidade, PrintStream saida, int capacidade) {
+        this.verbosidade = verbosidade;
+        this.saida = saida;
+        this.fila = new ArrayBlockingQueue<>(capacidade);
+        Thread escritor = new Thread(this::escrever, "monitor-console");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    @Override
+    public Verbosidade getVerbosidade() {
+        return verbosidade;
+    }
+
+    @Override
+    public void registrar(EventoBusca evento) {
+        if (fila.offer(evento)) {
+            enfileirados.incrementAndGet();
+        } else {
+            descartados.incrementAndGet();
+        }
+    }
+
+    @Override
+    public void concluir() {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ESPERA_MAXIMA_CONCLUSAO_MS);
+        while (escritos < enfileirados.get() && System.nanoTime() < limite) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+        long perdidos = descartados.getAndSet(0);
+        if (perdidos > 0) {
+            saida.println("(" + perdidos + " eventos descartados: fila do console cheia)");
+        }
+        saida.flush();
+    }
+
+    public long getDescartados() {
+        return descartados.get();
+    }
+
+    private void escrever() {
+        try {
+            while (true) {
+                EventoBusca evento = fila.take();
+                // Um evento malformado não pode derrubar a thread: sem ela, todo concluir() esperaria o prazo inteiro
+                try {
+                    saida.print(formatar(evento));
+                } catch (RuntimeException e) {
+                    saida.println("(evento " + evento.getTipo() + " não exibido: " + e + ")");
+                }
+                if (fila.isEmpty()) {
+                    saida.flush();
+                }
+                escritos++;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String formatar(EventoBusca evento) {
+        StringBuilder sb = new StringBuilder();
+        switch (evento.getTipo()) {
+            case INICIO:
+                cabecalho(sb, (int[]) evento.get("tabuleiro"));
+                sb.append("\n▬▬▬ CONFIGURAÇÃO INICIAL ▬▬▬\n");
+                campo(sb, "▸ Gerações máximas: ", evento.get("maxGeracoes"));
+                campo(sb, "▸ Tamanho população: ", evento.get("tamanhoPopulacao"));
+                campoPercentual(sb, "▸ Taxa de mutação: ", evento.get("taxaMutacao"));
+                campoPercentual(sb, "▸ Taxa de crossover: ", evento.get("taxaCrossover"));
+                campoPercentual(sb, "▸ Taxa de elitismo: ", evento.get("taxaElitismo"));
+                campo(sb, "▸ Crossover: ", evento.get("crossover"));
+                campo(sb, "▸ Heurística: ", evento.get("heuristica"));
+                campo(sb, "▸ Semente: ", evento.get("semente"));
+                campo(sb, "▸ Threads: ", evento.get("paralelismo"));
+                if (evento.get("ilhas") != null) {
+                    sb.append("▸ Ilhas: ").append(evento.get("ilhas"))
+                            .append(" (migração a cada ").append(evento.get("intervaloMigracao")).append(" gerações)\n");
+                }
+                sb.append("\n▬▬▬ TABULEIRO INICIAL ▬▬▬\n");
+                formatarTabuleiro(sb, (int[]) evento.get("tabuleiro"));
+                break;
+            case CACHE:
+                cabecalho(sb, (int[]) evento.get("tabuleiro"));
+                sb.append("\n♻ Solução recuperada do cache");
+                if (evento.get("movimentos") != null) {
+                    sb.append(" (").append(evento.get("movimentos")).append(" movimentos)");
+                }
+                sb.append("\n\n▬▬▬ TABULEIRO INICIAL ▬▬▬\n");
+                formatarTabuleiro(sb, (int[]) evento.get("tabuleiro"));
+                break;
+            case GERACAO:
+                sb.append("\n══════ GERAÇÃO ").append(evento.get("geracao")).append(" ══════\n");
+                sb.append(String.format("🏆 Melhor fitness: %.4f (Distância: %.4f + Movimentos: %.4f)%n",
+                        evento.get("fitness"), evento.get("distancia"), evento.get("custoMovimentos")));
+                Object movimentos = evento.get("movimentos");
+                if (movimentos instanceof List) {
+                    sb.append("\n🔍 Sequência de movimentos:\n");
+                    int contador = 1;
+                    for (Object movimento : (List<?>) movimentos) {
+                        sb.append(String.format("%2d. %s%n", contador++, movimento.toString().toUpperCase()));
+                    }
+                }
+                break;
+            case AJUSTE:
+                sb.append(String.format("%n⚙ Geração %d: %s | diversidade %.1f%%, desvio %.3f, %d sem melhora%n",
+                        evento.get("geracao"), Boolean.TRUE.equals(evento.get("pressao")) ? "pressão" : "recuo",
+                        percentual(evento.get("diversidade")), evento.get("desvioFitness"), evento.get("estagnacao")));
+                sb.append(String.format("  mutação %.1f%%, crossover %.1f%%, %d imigrantes%n",
+                        percentual(evento.get("taxaMutacao")), percentual(evento.get("taxaCrossover")),
+                        evento.get("imigrantes")));
+                break;
+            case INTERRUPCAO:
+                sb.append("\n⏹ Busca interrompida pelo usuário\n");
+                break;
+            case FIM:
+                if (Boolean.TRUE.equals(evento.get("otima"))) {
+                    sb.append("\n🎉 SOLUÇÃO ÓTIMA ENCONTRADA! 🎉\n");
+                }
+                sb.append("\n▬▬▬ RESULTADO FINAL ▬▬▬\n");
+                if (evento.get("motivo") != null) {
+                    sb.append("⏱ Parada: ").append(evento.get("motivo")).append('\n');
+                }
+                if (evento.get("tabuleiro") == null) {
+                    sb.append("Nenhuma solução encontrada.\n");
+                    break;
+                }
+                sb.append(String.format("🎖️ Melhor fitness: %.4f%n", evento.get("fitness")));
+                sb.append(String.format("🔢 Movimentos: %d | Geração: %d%n",
+                        evento.get("movimentos"), evento.get("geracaoEncontrada")));
+                sb.append(String.format("📊 Avaliações: %d | Fitness calculados: %d%n",
+                        evento.get("avaliacoes"), evento.get("calculos")));
+                if (evento.get("ajustes") != null) {
+                    sb.append(String.format("⚙ Ajustes adaptativos: %d | Imigrantes: %d%n",
+                            evento.get("ajustes"), evento.get("imigrantes")));
+                }
+                if (evento.get("taxaAcertoMemo") != null) {
+                    sb.append(String.format("🧠 Acertos na memória: %.1f%%%n", percentual(evento.get("taxaAcertoMemo"))));
+                }
+                sb.append(Boolean.TRUE.equals(evento.get("otima")) ? "🏁 Tabuleiro final:\n" : "🏁 Melhor estado encontrado:\n");
+                formatarTabuleiro(sb, (int[]) evento.get("tabuleiro"));
+                break;
+        }
+        return sb.toString();
+    }
+
+    private static void cabecalho(StringBuilder sb, int[] tabuleiro) {
+        sb.append("\n╔════════════════════════════════════╗\n");
+        sb.append(String.format("║       ALGORITMO GENÉTICO %-12s║\n", (tabuleiro.length - 1) + "-PUZZLE"));
+        sb.append("╚════════════════════════════════════╝\n");
+    }
+
+    // Campos ausentes do evento são omitidos em vez de aparecerem como null
+    private static void campo(StringBuilder sb, String rotulo, Object valor) {
+        if (valor != null) {
+            sb.append(rotulo).append(valor).append('\n');
+        }
+    }
+
+    private static void campoPercentual(StringBuilder sb, String rotulo, Object taxa) {
+        if (taxa instanceof Number) {
+            sb.append(rotulo).append(percentual(taxa)).append("%\n");
+        }
+    }
+
+    private static double percentual(Object taxa) {
+        return ((Number) taxa).doubleValue() * 100;
+    }
+
+    private static void formatarTabuleiro(StringBuilder sb, int[] tabuleiro) {
+        int dimensao = (int) Math.round(Math.sqrt(tabuleiro.length));
+        int largura = String.valueOf(tabuleiro.length - 1).length();
+        String formato = "%" + largura + "s";
+        sb.append(linhaDivisoria(dimensao, largura, '╔', '╦', '╗'));
+        for (int i = 0; i < dimensao; i++) {
+            sb.append('║');
+            for (int j = 0; j < dimensao; j++) {
+                int valor = tabuleiro[i * dimensao + j];
+                sb.append(' ').append(String.format(formato, valor == 0 ? "" : String.valueOf(valor))).append(" ║");
+            }
+            sb.append('\n');
+            if (i < dimensao - 1) {
+                sb.append(linhaDivisoria(dimensao, largura, '╠', '╬', '╣'));
+            }
+        }
+        sb.append(linhaDivisoria(dimensao, largura, '╚', '╩', '╝'));
+    }
+
+    private static String linhaDivisoria(int dimensao, int largura, char inicio, char meio, char fim) {
+        StringBuilder linha = new StringBuilder().append(inicio);
+        for (int j = 0; j < dimensao; j++) {
+            for (int k = 0; k < largura + 2; k++) {
+                linha.append('═');
+            }
+            linha.append(j < dimensao - 1 ? meio : fim);
+        }
+        return linha.append('\n').toString();
+    }
+}
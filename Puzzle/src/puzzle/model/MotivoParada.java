@@ -0,0 +1,26 @@
+package puzzle.model;
+
+public enum MotivoParada {
+    SOLUCAO("solução encontrada"),
+    FITNESS_ALVO("fitness alvo atingido"),
+    GERACOES("limite de gerações"),
+    PRAZO("prazo esgotado"),
+    AVALIACOES("limite de avaliações"),
+    ESTAGNACAO("estagnação"),
+    INTERRUPCAO("interrompida");
+
+    private final String descricao;
+
+    MotivoParada(String descricao) {
+        this.descricao = descricao;
+    }
+
+    public String getDescricao() {
+        return descricao;
+    }
+
+    @Override
+    public String toString() {
+        return descricao;
+    }
+}
@@ -0,0 +1,57 @@
+package puzzle.model;
+
+public enum Movimento {
+    CIMA("cima"),
+    BAIXO("baixo"),
+    ESQUERDA("esquerda"),
+    DIREITA("direita");
+
+    // Os códigos seguem a ordem da declaração: movimentos opostos diferem apenas no bit menos significativo
+    private static final Movimento[] VALORES = values();
+    public static final int TOTAL = VALORES.length;
+
+    private final String nome;
+
+    Movimento(String nome) {
+        this.nome = nome;
+    }
+
+    public String getNome() {
+        return nome;
+    }
+
+    public byte getCodigo() {
+        return (byte) ordinal();
+    }
+
+    public Movimento oposto() {
+        return VALORES[ordinal() ^ 1];
+    }
+
+    // Movimento equivalente no tabuleiro refletido pela diagonal principal: cima <-> esquerda, baixo <-> direita
+    public Movimento transposto() {
+        return VALORES[ordinal() ^ 2];
+    }
+
+    public static Movimento deCodigo(int codigo) {
+        return VALORES[codigo];
+    }
+
+    public static Movimento deNome(String nome) {
+        for (Movimento movimento : VALORES) {
+            if (movimento.nome.equals(nome)) {
+                return movimento;
+            }
+        }
+        throw new IllegalArgumentException("Movimento inválido: " + nome);
+    }
+
+    public static boolean isOposto(int codigo1, int codigo2) {
+        return (codigo1 ^ 1) == codigo2;
+    }
+
+    @Override
+    public String toString() {
+        return nome;
+    }
+}
@@ -0,0 +1,113 @@
+package puzzle.model;
+
+import java.util.Arrays;
+
+// População guardada por atributo: fitness, tamanhos e resultado da avaliação ficam em vetores primitivos indexados
+// pela posição, e os genes e pontos de controle de cada posição em linhas que passam de uma geração para a outra e
+// só crescem. O algoritmo genético mantém duas e alterna entre elas, então depois das primeiras gerações nada mais
+// é alocado por indivíduo; cada Cromossomo é só uma visão de uma posição.
+final class Populacao {
+    final PuzzleModel tabuleiroInicial;
+    final Heuristica heuristica;
+    final MemoAvaliacao memo;
+
+    final byte[][] genes;
+    final int[] tamanhos;
+    // estadosPrefixo[i][b] guarda o tabuleiro após os genes [0, b * INTERVALO_PREFIXO) da posição i (no 5×5, a parte
+    // alta fica em altosPrefixo[i][b]); extrasPrefixo[i][b] guarda a posição vazia nos 8 bits baixos e a distância
+    // Manhattan acima deles
+    final long[][] estadosPrefixo;
+    final long[][] altosPrefixo;
+    final int[][] extrasPrefixo;
+    final int[] prefixosValidos;
+    final boolean[] avaliados;
+    final double[] fitness;
+    final double[] distancias;
+    final double[] custosMovimentos;
+    final long[] estadosFinais;
+    final long[] altosFinais;
+
+    private final int tamanho;
+    private final Cromossomo[] cromossomos;
+
+    static final int INTERVALO_PREFIXO = 8;
+
+    // Há uma posição além de tamanho: ela recebe o segundo filho do último par quando só falta um lugar
+    Populacao(PuzzleModel tabuleiroInicial, Heuristica heuristica, MemoAvaliacao memo, int tamanho) {
+        this.tabuleiroInicial = tabuleiroInicial;
+        this.heuristica = heuristica;
+        this.memo = memo;
+        this.tamanho = tamanho;
+        int posicoes = tamanho + 1;
+        genes = new byte[posicoes][];
+        tamanhos = new int[posicoes];
+        estadosPrefixo = new long[posicoes][];
+        altosPrefixo = new long[posicoes][];
+        extrasPrefixo = new int[posicoes][];
+        prefixosValidos = new int[posicoes];
+        avaliados = new boolean[posicoes];
+        fitness = new double[posicoes];
+        distancias = new double[posicoes];
+        custosMovimentos = new double[posicoes];
+        estadosFinais = new long[posicoes];
+        altosFinais = new long[posicoes];
+        cromossomos = new Cromossomo[posicoes];
+        // O ponto de controle 0 é o tabuleiro inicial em todas as posições e nunca muda
+        for (int i = 0; i < posicoes; i++) {
+            genes[i] = new byte[0];
+            estadosPrefixo[i] = new long[1];
+            altosPrefixo[i] = new long[1];
+            extrasPrefixo[i] = new int[1];
+            registrarPrefixo(i, 0, tabuleiroInicial);
+            cromossomos[i] = new Cromossomo(this, i);
+        }
+    }
+
+    int tamanho() {
+        return tamanho;
+    }
+
+    Cromossomo get(int indice) {
+        return cromossomos[indice];
+    }
+
+    // Linha de genes da posição com espaço para pelo menos capacidade genes; o conteúdo anterior não é mantido
+    byte[] reservarGenes(int indice, int capacidade) {
+        if (genes[indice].length < capacidade) {
+            genes[indice] = new byte[Math.max(capacidade, genes[indice].length * 2)];
+        }
+        return genes[indice];
+    }
+
+    // Como reservarGenes, mas preservando os genes atuais
+    byte[] ampliarGenes(int indice, int capacidade) {
+        if (genes[indice].length < capacidade) {
+            genes[indice] = Arrays.copyOf(genes[indice], Math.max(capacidade, Math.max(8, genes[indice].length * 2)));
+        }
+        return genes[indice];
+    }
+
+    void registrarPrefixo(int indice, int bloco, PuzzleModel tabuleiro) {
+        garantirPrefixos(indice, bloco + 1);
+        estadosPrefixo[indice][bloco] = tabuleiro.getEstado();
+        altosPrefixo[indice][bloco] = tabuleiro.getEstadoAlto();
+        extrasPrefixo[indice][bloco] = (tabuleiro.calcularDistanciaManhattan() << 8) | tabuleiro.getPosicaoVazia();
+    }
+
+    // Copia os blocos [0, blocos) de pontos de controle de outra posição, possivelmente de outra população
+    void copiarPrefixos(int indice, Populacao origem, int indiceOrigem, int blocos) {
+        garantirPrefixos(indice, blocos);
+        System.arraycopy(origem.estadosPrefixo[indiceOrigem], 0, estadosPrefixo[indice], 0, blocos);
+        System.arraycopy(origem.altosPrefixo[indiceOrigem], 0, altosPrefixo[indice], 0, blocos);
+        System.arraycopy(origem.extrasPrefixo[indiceOrigem], 0, extrasPrefixo[indice], 0, blocos);
+    }
+
+    private void garantirPrefixos(int indice, int blocos) {
+        if (estadosPrefixo[indice].length < blocos) {
+            int capacidade = Math.max(blocos, estadosPrefixo[indice].length * 2);
+            estadosPrefixo[indice] = Arrays.copyOf(estadosPrefixo[indice], capacidade);
+            altosPrefixo[indice] = Arrays.copyOf(altosPrefixo[indice], capacidade);
+            extrasPrefixo[indice] = Arrays.copyOf(extrasPrefixo[indice], capacidade);
+        }
+    }
+}
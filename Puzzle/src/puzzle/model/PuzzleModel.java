@@ -1,177 +1,415 @@
 package puzzle.model;
 
-import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public class PuzzleModel {
-    private int[][] tabuleiro;
-    private static final int[][] SOLUCAO = {
-        {0, 1, 2},
-        {3, 4, 5},
-        {6, 7, 8}
-    };
+    public static final int DIMENSAO_PADRAO = 3;
+    public static final int DIMENSAO_MINIMA = 2;
+    public static final int DIMENSAO_MAXIMA = 5;
+    private static final Geometria[] GEOMETRIAS = new Geometria[DIMENSAO_MAXIMA + 1];
+
+    static {
+        for (int dimensao = DIMENSAO_MINIMA; dimensao <= DIMENSAO_MAXIMA; dimensao++) {
+            GEOMETRIAS[dimensao] = new Geometria(dimensao);
+        }
+    }
+
+    // Cada posição ocupa "bits" bits de um número de 128 bits formado por estadoAlto:estado; a peça da posição p
+    // fica nos bits [p * bits, (p + 1) * bits). Até 4×4 usam-se 4 bits por posição e tudo cabe em "estado"
+    private Geometria geometria;
+    private long estado;
+    private long estadoAlto;
+    private int posVazia;
+    private int distancia;
 
     public PuzzleModel() {
-        this.tabuleiro = new int[3][3];
+        this(DIMENSAO_PADRAO);
+    }
+
+    public PuzzleModel(int dimensao) {
+        if (dimensao < DIMENSAO_MINIMA || dimensao > DIMENSAO_MAXIMA) {
+            throw new IllegalArgumentException("Dimensão inválida: " + dimensao);
+        }
+        this.geometria = GEOMETRIAS[dimensao];
         reset();
     }
 
+    private PuzzleModel(Geometria geometria) {
+        this.geometria = geometria;
+    }
+
     public void reset() {
-        int valor = 0;
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                tabuleiro[i][j] = valor++;
-            }
-        }
+        estado = geometria.solucao;
+        estadoAlto = geometria.solucaoAlto;
+        posVazia = 0;
+        distancia = 0;
     }
 
     public PuzzleModel copia() {
-        PuzzleModel copia = new PuzzleModel();
-        for (int i = 0; i < 3; i++) {
-            System.arraycopy(this.tabuleiro[i], 0, copia.tabuleiro[i], 0, 3);
-        }
+        PuzzleModel copia = new PuzzleModel(geometria.dimensao);
+        copia.copiarDe(this);
         return copia;
     }
 
+    public void copiarDe(PuzzleModel outro) {
+        this.geometria = outro.geometria;
+        this.estado = outro.estado;
+        this.estadoAlto = outro.estadoAlto;
+        this.posVazia = outro.posVazia;
+        this.distancia = outro.distancia;
+    }
+
+    void restaurar(long estado, int posVazia, int distancia) {
+        restaurar(estado, 0L, posVazia, distancia);
+    }
+
+    void restaurar(long estado, long estadoAlto, int posVazia, int distancia) {
+        this.estado = estado;
+        this.estadoAlto = estadoAlto;
+        this.posVazia = posVazia;
+        this.distancia = distancia;
+    }
+
     public void embaralhar() {
-        Random rand = new Random();
-        int iteracoes = rand.nextInt(91) + 10;
-        for (int i = 0; i < iteracoes; i++) {
-            switch (rand.nextInt(4)) {
-                case 0:
-                    moverParaCima();
-                    break;
-                case 1:
-                    moverParaBaixo();
-                    break;
-                case 2:
-                    moverParaEsquerda();
-                    break;
-                case 3:
-                    moverParaDireita();
-                    break;
+        embaralhar(new SplittableRandom());
+    }
+
+    // Sorteia um estado uniformemente entre os solucionáveis: uma permutação aleatória com paridade errada vira
+    // solucionável trocando as duas primeiras peças, o que pareia as duas metades uma a uma
+    public void embaralhar(SplittableRandom rand) {
+        int celulas = geometria.celulas;
+        int[] array = new int[celulas];
+        for (int i = 0; i < celulas; i++) {
+            int j = rand.nextInt(i + 1);
+            array[i] = array[j];
+            array[j] = i;
+        }
+        fromArray1D(array);
+        if (!isSolucionavel()) {
+            int primeira = posVazia == 0 ? 1 : 0;
+            int segunda = posVazia <= 1 ? 2 : 1;
+            int temp = array[primeira];
+            array[primeira] = array[segunda];
+            array[segunda] = temp;
+            fromArray1D(array);
+        }
+    }
+
+    public void embaralharComProfundidade(int profundidade) {
+        embaralharComProfundidade(profundidade, new SplittableRandom());
+    }
+
+    // Caminha a partir da solução sempre para um vizinho mais distante segundo a tabela de distâncias, recomeçando
+    // quando não há saída; o tabuleiro final tem solução ótima com exatamente "profundidade" movimentos
+    public void embaralharComProfundidade(int profundidade, SplittableRandom rand) {
+        if (geometria.dimensao != 3) {
+            throw new IllegalArgumentException("A tabela de distâncias só cobre o 3×3");
+        }
+        if (profundidade < 0 || profundidade > TabelaDistancias.DISTANCIA_MAXIMA) {
+            throw new IllegalArgumentException("Profundidade inválida: " + profundidade);
+        }
+        TabelaDistancias tabela = TabelaDistancias.padrao();
+        int[] candidatos = new int[Movimento.TOTAL];
+        reset();
+        int atual = 0;
+        while (atual < profundidade) {
+            int total = 0;
+            for (int movimento = 0; movimento < Movimento.TOTAL; movimento++) {
+                if (mover(movimento)) {
+                    if (tabela.distancia(this) > atual) {
+                        candidatos[total++] = movimento;
+                    }
+                    mover(Movimento.deCodigo(movimento).oposto());
+                }
+            }
+            if (total == 0) {
+                reset();
+                atual = 0;
+                continue;
             }
+            mover(candidatos[rand.nextInt(total)]);
+            atual++;
         }
     }
 
     public boolean moverParaCima() {
-        int[] posVazia = encontrarPosicao(0);
-        if (posVazia[0] == 0) {
+        if (posVazia < geometria.dimensao) {
             return false;
         }
-        trocar(posVazia, new int[]{posVazia[0] - 1, posVazia[1]});
+        trocarVaziaCom(posVazia - geometria.dimensao);
         return true;
     }
 
     public boolean moverParaBaixo() {
-        int[] posVazia = encontrarPosicao(0);
-        if (posVazia[0] == 2) {
+        if (posVazia >= geometria.celulas - geometria.dimensao) {
             return false;
         }
-        trocar(posVazia, new int[]{posVazia[0] + 1, posVazia[1]});
+        trocarVaziaCom(posVazia + geometria.dimensao);
         return true;
     }
 
     public boolean moverParaEsquerda() {
-        int[] posVazia = encontrarPosicao(0);
-        if (posVazia[1] == 0) {
+        if (posVazia % geometria.dimensao == 0) {
             return false;
         }
-        trocar(posVazia, new int[]{posVazia[0], posVazia[1] - 1});
+        trocarVaziaCom(posVazia - 1);
         return true;
     }
 
     public boolean moverParaDireita() {
-        int[] posVazia = encontrarPosicao(0);
-        if (posVazia[1] == 2) {
+        if (posVazia % geometria.dimensao == geometria.dimensao - 1) {
             return false;
         }
-        trocar(posVazia, new int[]{posVazia[0], posVazia[1] + 1});
+        trocarVaziaCom(posVazia + 1);
         return true;
     }
 
-    private void trocar(int[] a, int[] b) {
-        int temp = tabuleiro[a[0]][a[1]];
-        tabuleiro[a[0]][a[1]] = tabuleiro[b[0]][b[1]];
-        tabuleiro[b[0]][b[1]] = temp;
+    private void trocarVaziaCom(int destino) {
+        int peca = valorEm(destino);
+        escrever(destino, 0);
+        escrever(posVazia, peca);
+        int base = peca * geometria.celulas;
+        distancia += geometria.distancias[base + posVazia] - geometria.distancias[base + destino];
+        posVazia = destino;
+    }
+
+    private void escrever(int pos, int valor) {
+        int bits = geometria.bits;
+        long mascara = geometria.mascara;
+        int deslocamento = pos * bits;
+        if (deslocamento + bits <= 64) {
+            estado = (estado & ~(mascara << deslocamento)) | ((long) valor << deslocamento);
+        } else if (deslocamento >= 64) {
+            deslocamento -= 64;
+            estadoAlto = (estadoAlto & ~(mascara << deslocamento)) | ((long) valor << deslocamento);
+        } else {
+            // Posição dividida entre as duas palavras (só acontece no 5×5)
+            int restante = 64 - deslocamento;
+            estado = (estado & ~(mascara << deslocamento)) | ((long) valor << deslocamento);
+            estadoAlto = (estadoAlto & ~(mascara >>> restante)) | ((long) valor >>> restante);
+        }
     }
 
     public int[] encontrarPosicao(int valor) {
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                if (tabuleiro[i][j] == valor) {
-                    return new int[]{i, j};
-                }
+        int dimensao = geometria.dimensao;
+        if (valor == 0) {
+            return new int[]{posVazia / dimensao, posVazia % dimensao};
+        }
+        for (int pos = 0; pos < geometria.celulas; pos++) {
+            if (valorEm(pos) == valor) {
+                return new int[]{pos / dimensao, pos % dimensao};
             }
         }
         throw new IllegalArgumentException("Valor não encontrado: " + valor);
     }
 
+    public int valorEm(int pos) {
+        int bits = geometria.bits;
+        int deslocamento = pos * bits;
+        if (deslocamento + bits <= 64) {
+            return (int) ((estado >>> deslocamento) & geometria.mascara);
+        }
+        if (deslocamento >= 64) {
+            return (int) ((estadoAlto >>> (deslocamento - 64)) & geometria.mascara);
+        }
+        return (int) (((estado >>> deslocamento) | (estadoAlto << (64 - deslocamento))) & geometria.mascara);
+    }
+
     public int calcularDistanciaManhattan() {
-        int distancia = 0;
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                int valor = tabuleiro[i][j];
-                if (valor != 0) {
-                    int linhaDesejada = valor / 3;
-                    int colunaDesejada = valor % 3;
-                    distancia += Math.abs(i - linhaDesejada) + Math.abs(j - colunaDesejada);
-                }
+        return distancia;
+    }
+
+    private int calcularDistanciaManhattanCompleta() {
+        int total = 0;
+        for (int pos = 0; pos < geometria.celulas; pos++) {
+            total += geometria.distancias[valorEm(pos) * geometria.celulas + pos];
+        }
+        return total;
+    }
+
+    // Com largura ímpar, cada movimento preserva a paridade das inversões entre as peças (ignorando a vazia);
+    // com largura par, um movimento vertical inverte essa paridade e muda a linha da vazia em uma unidade. A
+    // solução não tem inversões e tem a vazia na linha 0, então o invariante precisa dar par
+    public boolean isSolucionavel() {
+        int vistas = 0;
+        int inversoes = 0;
+        for (int pos = 0; pos < geometria.celulas; pos++) {
+            int valor = valorEm(pos);
+            if (valor != 0) {
+                inversoes += Integer.bitCount(vistas >>> valor);
+                vistas |= 1 << valor;
             }
         }
-        return distancia;
+        if (geometria.dimensao % 2 == 0) {
+            inversoes += posVazia / geometria.dimensao;
+        }
+        return (inversoes & 1) == 0;
     }
 
     public boolean isSolucionado() {
-        return Arrays.deepEquals(tabuleiro, SOLUCAO);
+        return estado == geometria.solucao && estadoAlto == geometria.solucaoAlto;
+    }
+
+    public boolean mover(int codigo) {
+        switch (codigo) {
+            case 0:
+                return moverParaCima();
+            case 1:
+                return moverParaBaixo();
+            case 2:
+                return moverParaEsquerda();
+            case 3:
+                return moverParaDireita();
+            default:
+                throw new IllegalArgumentException("Movimento inválido: " + codigo);
+        }
+    }
+
+    public boolean mover(Movimento movimento) {
+        return mover(movimento.getCodigo());
+    }
+
+    public void aplicarMovimentos(byte[] genes, int tamanho) {
+        for (int i = 0; i < tamanho; i++) {
+            mover(genes[i]);
+        }
     }
 
     public void aplicarMovimentos(List<String> movimentos) {
         for (String movimento : movimentos) {
-            switch (movimento) {
-                case "cima":
-                    moverParaCima();
-                    break;
-                case "baixo":
-                    moverParaBaixo();
-                    break;
-                case "esquerda":
-                    moverParaEsquerda();
-                    break;
-                case "direita":
-                    moverParaDireita();
-                    break;
-            }
+            mover(Movimento.deNome(movimento));
         }
     }
 
+    public int getDimensao() {
+        return geometria.dimensao;
+    }
+
+    public int getTotalCelulas() {
+        return geometria.celulas;
+    }
+
+    // Até 4×4 o tabuleiro inteiro está em getEstado(); no 5×5 ele continua em getEstadoAlto()
+    public long getEstado() {
+        return estado;
+    }
+
+    public long getEstadoAlto() {
+        return estadoAlto;
+    }
+
+    public int getPosicaoVazia() {
+        return posVazia;
+    }
+
     public int[] toArray1D() {
-        int[] array = new int[9];
-        int index = 0;
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                array[index++] = tabuleiro[i][j];
-            }
+        int[] array = new int[geometria.celulas];
+        for (int pos = 0; pos < array.length; pos++) {
+            array[pos] = valorEm(pos);
         }
         return array;
     }
 
     public void fromArray1D(int[] array) {
-        int index = 0;
-        for (int i = 0; i < 3; i++) {
-            for (int j = 0; j < 3; j++) {
-                tabuleiro[i][j] = array[index++];
+        if (array.length != geometria.celulas) {
+            throw new IllegalArgumentException("Tabuleiro com " + array.length + " posições; esperado "
+                    + geometria.celulas);
+        }
+        int novaPosVazia = -1;
+        int vistos = 0;
+        for (int pos = 0; pos < array.length; pos++) {
+            int valor = array[pos];
+            if (valor < 0 || valor >= array.length) {
+                throw new IllegalArgumentException("Valor inválido: " + valor);
+            }
+            if ((vistos & (1 << valor)) != 0) {
+                throw new IllegalArgumentException("Valor repetido: " + valor);
+            }
+            vistos |= 1 << valor;
+            if (valor == 0) {
+                novaPosVazia = pos;
             }
         }
+        estado = 0L;
+        estadoAlto = 0L;
+        for (int pos = 0; pos < array.length; pos++) {
+            escrever(pos, array[pos]);
+        }
+        posVazia = novaPosVazia;
+        distancia = calcularDistanciaManhattanCompleta();
+    }
+
+    // Reflexão pela diagonal principal, renumerando as peças do mesmo jeito: a solução é preservada e uma sequência
+    // de movimentos resolve este tabuleiro se e só se a sequência transposta resolve o refletido
+    public PuzzleModel transposto() {
+        int dimensao = geometria.dimensao;
+        int[] array = new int[geometria.celulas];
+        for (int pos = 0; pos < array.length; pos++) {
+            int valor = valorEm(pos);
+            array[(pos % dimensao) * dimensao + pos / dimensao] = (valor % dimensao) * dimensao + valor / dimensao;
+        }
+        PuzzleModel transposto = new PuzzleModel(dimensao);
+        transposto.fromArray1D(array);
+        return transposto;
+    }
+
+    public static PuzzleModel deArray1D(int[] array) {
+        int dimensao = (int) Math.round(Math.sqrt(array.length));
+        if (dimensao * dimensao != array.length) {
+            throw new IllegalArgumentException("Tabuleiro com " + array.length + " posições não é quadrado");
+        }
+        PuzzleModel tabuleiro = new PuzzleModel(dimensao);
+        tabuleiro.fromArray1D(array);
+        return tabuleiro;
     }
 
     @Override
     public String toString() {
+        int dimensao = geometria.dimensao;
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < 3; i++) {
-            sb.append(Arrays.toString(tabuleiro[i])).append("\n");
+        for (int i = 0; i < dimensao; i++) {
+            sb.append('[');
+            for (int j = 0; j < dimensao; j++) {
+                if (j > 0) {
+                    sb.append(", ");
+                }
+                sb.append(valorEm(i * dimensao + j));
+            }
+            sb.append("]\n");
         }
         return sb.toString();
     }
-}
\ No newline at end of file
+
+    private static final class Geometria {
+        final int dimensao;
+        final int celulas;
+        final int bits;
+        final long mascara;
+        final long solucao;
+        final long solucaoAlto;
+        final int[] distancias;
+
+        Geometria(int dimensao) {
+            this.dimensao = dimensao;
+            this.celulas = dimensao * dimensao;
+            this.bits = celulas <= 16 ? 4 : 5;
+            this.mascara = (1L << bits) - 1;
+            this.distancias = new int[celulas * celulas];
+            for (int valor = 1; valor < celulas; valor++) {
+                for (int pos = 0; pos < celulas; pos++) {
+                    distancias[valor * celulas + pos] = Math.abs(pos / dimensao - valor / dimensao)
+                            + Math.abs(pos % dimensao - valor % dimensao);
+                }
+            }
+            PuzzleModel solucao = new PuzzleModel(this);
+            int[] array = new int[celulas];
+            for (int pos = 0; pos < celulas; pos++) {
+                array[pos] = pos;
+            }
+            solucao.fromArray1D(array);
+            this.solucao = solucao.estado;
+            this.solucaoAlto = solucao.estadoAlto;
+        }
+    }
+}
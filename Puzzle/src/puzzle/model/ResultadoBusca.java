@@ -0,0 +1,130 @@
+package puzzle.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public final class ResultadoBusca {
+    private final String motor;
+    private final PuzzleModel tabuleiroInicial;
+    byte[] movimentos = new byte[0];
+    int[] tabuleiroFinal;
+    double fitness = Double.NaN;
+    boolean solucionado;
+    boolean otimo;
+    int geracoes;
+    int geracaoEncontrada;
+    long avaliacoes;
+    long calculos;
+    long nosExpandidos;
+    long tempoNanos;
+    boolean doCache;
+    long acertosMemo;
+    long consultasMemo;
+    int ajustes;
+    long imigrantes;
+    MotivoParada motivoParada;
+
+    ResultadoBusca(String motor, PuzzleModel tabuleiroInicial) {
+        this.motor = motor;
+        this.tabuleiroInicial = tabuleiroInicial;
+        this.tabuleiroFinal = tabuleiroInicial.toArray1D();
+    }
+
+    public String getMotor() {
+        return motor;
+    }
+
+    public byte[] getMovimentos() {
+        return Arrays.copyOf(movimentos, movimentos.length);
+    }
+
+    public int getTotalMovimentos() {
+        return movimentos.length;
+    }
+
+    public List<String> getNomesMovimentos() {
+        List<String> nomes = new ArrayList<>(movimentos.length);
+        for (byte movimento : movimentos) {
+            nomes.add(Movimento.deCodigo(movimento).getNome());
+        }
+        return Collections.unmodifiableList(nomes);
+    }
+
+    public int[] getTabuleiroFinal() {
+        return Arrays.copyOf(tabuleiroFinal, tabuleiroFinal.length);
+    }
+
+    public double getFitness() {
+        return fitness;
+    }
+
+    public boolean isSolucionado() {
+        return solucionado;
+    }
+
+    public boolean isOtimo() {
+        return otimo;
+    }
+
+    public int getGeracoes() {
+        return geracoes;
+    }
+
+    public int getGeracaoEncontrada() {
+        return geracaoEncontrada;
+    }
+
+    public long getAvaliacoes() {
+        return avaliacoes;
+    }
+
+    public long getCalculos() {
+        return calculos;
+    }
+
+    public long getNosExpandidos() {
+        return nosExpandidos;
+    }
+
+    public long getTempoNanos() {
+        return tempoNanos;
+    }
+
+    public boolean isDoCache() {
+        return doCache;
+    }
+
+    public long getAcertosMemo() {
+        return acertosMemo;
+    }
+
+    public long getConsultasMemo() {
+        return consultasMemo;
+    }
+
+    public double getTaxaAcertoMemo() {
+        return consultasMemo == 0 ? 0.0 : (double) acertosMemo / consultasMemo;
+    }
+
+    public int getAjustes() {
+        return ajustes;
+    }
+
+    public long getImigrantes() {
+        return imigrantes;
+    }
+
+    // Os motores exatos não registram o motivo: ou acham a solução ou foram interrompidos
+    public MotivoParada getMotivoParada() {
+        if (motivoParada != null) {
+            return motivoParada;
+        }
+        return solucionado ? MotivoParada.SOLUCAO : MotivoParada.INTERRUPCAO;
+    }
+
+    public AtualizacaoBusca getAtualizacao() {
+        return new AtualizacaoBusca(Math.max(1, geracaoEncontrada + 1), fitness, movimentos, tabuleiroInicial);
+    }
+}
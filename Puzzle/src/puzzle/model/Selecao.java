@@ -0,0 +1,14 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+public interface Selecao {
+
+    void preparar(double[] fitness, int tamanho);
+
+    int selecionar(SplittableRandom random);
+
+    static double peso(double fitness) {
+        return 1.0 / (fitness + 1e-6);
+    }
+}
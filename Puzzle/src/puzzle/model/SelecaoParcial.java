@@ -0,0 +1,85 @@
+package puzzle.model;
+
+// Extração dos k extremos de um vetor de fitness sem ordenar a população inteira: um heap binário de índices com
+// os k melhores vistos até agora, cuja raiz é o pior deles, custa O(n log k)
+final class SelecaoParcial {
+    private SelecaoParcial() {
+    }
+
+    // Índices dos k menores valores em ordem crescente; empates ficam com o menor índice
+    static int[] menores(double[] valores, int tamanho, int k) {
+        return extremos(valores, tamanho, k, true);
+    }
+
+    // Índices dos k maiores valores em ordem decrescente; empates ficam com o maior índice
+    static int[] maiores(double[] valores, int tamanho, int k) {
+        return extremos(valores, tamanho, k, false);
+    }
+
+    private static int[] extremos(double[] valores, int tamanho, int k, boolean menores) {
+        k = Math.max(0, Math.min(k, tamanho));
+        int[] heap = new int[k];
+        if (k == 0) {
+            return heap;
+        }
+        for (int i = 0; i < k; i++) {
+            heap[i] = i;
+            subir(heap, i, valores, menores);
+        }
+        for (int i = k; i < tamanho; i++) {
+            if (antes(i, heap[0], valores, menores)) {
+                heap[0] = i;
+                descer(heap, k, valores, menores);
+            }
+        }
+        // Retirar a raiz repetidamente deixa o vetor do fim para o começo na ordem pedida
+        for (int fim = k - 1; fim > 0; fim--) {
+            int raiz = heap[0];
+            heap[0] = heap[fim];
+            heap[fim] = raiz;
+            descer(heap, fim, valores, menores);
+        }
+        return heap;
+    }
+
+    // true se o índice a vem antes do b na ordem pedida
+    private static boolean antes(int a, int b, double[] valores, boolean menores) {
+        if (valores[a] != valores[b]) {
+            return menores == valores[a] < valores[b];
+        }
+        return menores == a < b;
+    }
+
+    private static void subir(int[] heap, int i, double[] valores, boolean menores) {
+        int item = heap[i];
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (!antes(heap[pai], item, valores, menores)) {
+                break;
+            }
+            heap[i] = heap[pai];
+            i = pai;
+        }
+        heap[i] = item;
+    }
+
+    private static void descer(int[] heap, int tamanho, double[] valores, boolean menores) {
+        int item = heap[0];
+        int i = 0;
+        while (true) {
+            int filho = 2 * i + 1;
+            if (filho >= tamanho) {
+                break;
+            }
+            if (filho + 1 < tamanho && antes(heap[filho], heap[filho + 1], valores, menores)) {
+                filho++;
+            }
+            if (!antes(item, heap[filho], valores, menores)) {
+                break;
+            }
+            heap[i] = heap[filho];
+            i = filho;
+        }
+        heap[i] = item;
+    }
+}
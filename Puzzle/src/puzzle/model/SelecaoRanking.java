@@ -0,0 +1,37 @@
+package puzzle.model;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public final class SelecaoRanking implements Selecao {
+    private long[] chaves = new long[0];
+    private int[] ordem = new int[0];
+    private long tamanho;
+
+    @Override
+    public void preparar(double[] fitness, int tamanho) {
+        if (chaves.length < tamanho) {
+            chaves = new long[tamanho];
+            ordem = new int[tamanho];
+        }
+        // Fitness não negativo preserva a ordem nos bits do float; o índice vai nos 32 bits baixos
+        for (int i = 0; i < tamanho; i++) {
+            chaves[i] = ((long) Float.floatToIntBits((float) fitness[i]) << 32) | i;
+        }
+        Arrays.sort(chaves, 0, tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            ordem[i] = (int) chaves[i];
+        }
+        this.tamanho = tamanho;
+    }
+
+    @Override
+    public int selecionar(SplittableRandom random) {
+        // Contando a partir do pior, o posto k recebe peso k + 1: o sorteio cai no posto cuja soma aritmética o cobre
+        long total = tamanho * (tamanho + 1) / 2;
+        long sorteio = (long) (random.nextDouble() * total);
+        long doPior = (long) ((Math.sqrt(8.0 * sorteio + 1) - 1) / 2);
+        int posto = (int) (tamanho - 1 - doPior);
+        return ordem[Math.max(0, Math.min((int) tamanho - 1, posto))];
+    }
+}
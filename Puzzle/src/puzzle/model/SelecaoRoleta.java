@@ -0,0 +1,37 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+public final class SelecaoRoleta implements Selecao {
+    private double[] acumulado = new double[0];
+    private int tamanho;
+
+    @Override
+    public void preparar(double[] fitness, int tamanho) {
+        if (acumulado.length < tamanho) {
+            acumulado = new double[tamanho];
+        }
+        double soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += Selecao.peso(fitness[i]);
+            acumulado[i] = soma;
+        }
+        this.tamanho = tamanho;
+    }
+
+    @Override
+    public int selecionar(SplittableRandom random) {
+        double valorRoleta = random.nextDouble() * acumulado[tamanho - 1];
+        int inicio = 0;
+        int fim = tamanho - 1;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (acumulado[meio] >= valorRoleta) {
+                fim = meio;
+            } else {
+                inicio = meio + 1;
+            }
+        }
+        return inicio;
+    }
+}
@@ -0,0 +1,62 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+public final class SelecaoRoletaAlias implements Selecao {
+    private double[] probabilidade = new double[0];
+    private int[] alias = new int[0];
+    private int[] pequenos = new int[0];
+    private int[] grandes = new int[0];
+    private int tamanho;
+
+    @Override
+    public void preparar(double[] fitness, int tamanho) {
+        if (probabilidade.length < tamanho) {
+            probabilidade = new double[tamanho];
+            alias = new int[tamanho];
+            pequenos = new int[tamanho];
+            grandes = new int[tamanho];
+        }
+        double soma = 0;
+        for (int i = 0; i < tamanho; i++) {
+            soma += Selecao.peso(fitness[i]);
+        }
+
+        int totalPequenos = 0;
+        int totalGrandes = 0;
+        for (int i = 0; i < tamanho; i++) {
+            probabilidade[i] = Selecao.peso(fitness[i]) * tamanho / soma;
+            alias[i] = i;
+            if (probabilidade[i] < 1.0) {
+                pequenos[totalPequenos++] = i;
+            } else {
+                grandes[totalGrandes++] = i;
+            }
+        }
+
+        while (totalPequenos > 0 && totalGrandes > 0) {
+            int menor = pequenos[--totalPequenos];
+            int maior = grandes[--totalGrandes];
+            alias[menor] = maior;
+            probabilidade[maior] -= 1.0 - probabilidade[menor];
+            if (probabilidade[maior] < 1.0) {
+                pequenos[totalPequenos++] = maior;
+            } else {
+                grandes[totalGrandes++] = maior;
+            }
+        }
+        while (totalGrandes > 0) {
+            probabilidade[grandes[--totalGrandes]] = 1.0;
+        }
+        while (totalPequenos > 0) {
+            probabilidade[pequenos[--totalPequenos]] = 1.0;
+        }
+        this.tamanho = tamanho;
+    }
+
+    @Override
+    public int selecionar(SplittableRandom random) {
+        int coluna = random.nextInt(tamanho);
+        return random.nextDouble() < probabilidade[coluna] ? coluna : alias[coluna];
+    }
+}
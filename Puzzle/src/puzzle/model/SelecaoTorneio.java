@@ -0,0 +1,34 @@
+package puzzle.model;
+
+import java.util.SplittableRandom;
+
+public final class SelecaoTorneio implements Selecao {
+    private final int participantes;
+    private double[] fitness;
+    private int tamanho;
+
+    public SelecaoTorneio(int participantes) {
+        if (participantes < 1) {
+            throw new IllegalArgumentException("O torneio precisa de pelo menos 1 participante");
+        }
+        this.participantes = participantes;
+    }
+
+    @Override
+    public void preparar(double[] fitness, int tamanho) {
+        this.fitness = fitness;
+        this.tamanho = tamanho;
+    }
+
+    @Override
+    public int selecionar(SplittableRandom random) {
+        int vencedor = random.nextInt(tamanho);
+        for (int i = 1; i < participantes; i++) {
+            int desafiante = random.nextInt(tamanho);
+            if (fitness[desafiante] < fitness[vencedor]) {
+                vencedor = desafiante;
+            }
+        }
+        return vencedor;
+    }
+}
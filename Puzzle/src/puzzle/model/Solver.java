@@ -0,0 +1,10 @@
+package puzzle.model;
+
+import java.util.function.Supplier;
+
+public interface Solver {
+
+    String getNome();
+
+    ResultadoBusca resolver(Supplier<Boolean> shouldStop);
+}
@@ -0,0 +1,209 @@
+package puzzle.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class SolverAEstrela implements Solver {
+    private static final int INTERVALO_VERIFICACAO_PARADA = 4096;
+
+    private final PuzzleModel tabuleiroInicial;
+    private int limiteNos = 20_000_000;
+    private Heuristica heuristica = Heuristica.MANHATTAN;
+
+    private long[] estados;
+    private byte[] vazias;
+    private int[] custos;
+    private int[] heuristicas;
+    private int[] manhattans;
+    private int[] pais;
+    private byte[] movimentos;
+    private int totalNos;
+    private int[] heap;
+    private int tamanhoHeap;
+
+    // Os nós guardam o tabuleiro em um único long, o que limita o A* ao 4×4
+    public SolverAEstrela(PuzzleModel tabuleiroInicial) {
+        if (tabuleiroInicial.getDimensao() > 4) {
+            throw new IllegalArgumentException("O A* suporta tabuleiros de até 4×4");
+        }
+        this.tabuleiroInicial = tabuleiroInicial.copia();
+    }
+
+    public void setLimiteNos(int limiteNos) {
+        this.limiteNos = Math.max(1, limiteNos);
+    }
+
+    public void setHeuristica(Heuristica heuristica) {
+        this.heuristica = Objects.requireNonNull(heuristica);
+    }
+
+    @Override
+    public String getNome() {
+        return "A*";
+    }
+
+    @Override
+    public ResultadoBusca resolver(Supplier<Boolean> shouldStop) {
+        if (!tabuleiroInicial.isSolucionavel()) {
+            throw new IllegalArgumentException("Tabuleiro sem solução");
+        }
+        long inicio = System.nanoTime();
+        ResultadoBusca resultado = new ResultadoBusca(getNome(), tabuleiroInicial);
+        long alvo = new PuzzleModel(tabuleiroInicial.getDimensao()).getEstado();
+
+        alocar(1024);
+        MapaEstados melhores = new MapaEstados(1024);
+        PuzzleModel auxiliar = tabuleiroInicial.copia();
+
+        int raiz = novoNo(tabuleiroInicial, 0, -1, (byte) -1);
+        melhores.colocar(estados[raiz], raiz);
+        inserir(raiz);
+
+        long expandidos = 0;
+        int encontrado = -1;
+        while (tamanhoHeap > 0 && totalNos < limiteNos) {
+            if (expandidos % INTERVALO_VERIFICACAO_PARADA == 0 && shouldStop.get()) {
+                break;
+            }
+            int no = removerMinimo();
+            if (melhores.obter(estados[no]) != no) {
+                continue;
+            }
+            if (estados[no] == alvo) {
+                encontrado = no;
+                break;
+            }
+            expandidos++;
+
+            for (int movimento = 0; movimento < Movimento.TOTAL; movimento++) {
+                if (movimentos[no] >= 0 && Movimento.isOposto(movimentos[no], movimento)) {
+                    continue;
+                }
+                auxiliar.restaurar(estados[no], vazias[no], manhattans[no]);
+                if (!auxiliar.mover(movimento)) {
+                    continue;
+                }
+                int custo = custos[no] + 1;
+                int existente = melhores.obter(auxiliar.getEstado());
+                if (!MapaEstados.ausente(existente) && custos[existente] <= custo) {
+                    continue;
+                }
+                int filho = novoNo(auxiliar, custo, no, (byte) movimento);
+                melhores.colocar(estados[filho], filho);
+                inserir(filho);
+            }
+        }
+
+        resultado.nosExpandidos = expandidos;
+        if (encontrado >= 0) {
+            byte[] caminho = new byte[custos[encontrado]];
+            for (int no = encontrado; pais[no] >= 0; no = pais[no]) {
+                caminho[custos[no] - 1] = movimentos[no];
+            }
+            resultado.movimentos = caminho;
+            resultado.solucionado = true;
+            resultado.otimo = true;
+            resultado.fitness = 0.0;
+            PuzzleModel fim = tabuleiroInicial.copia();
+            fim.aplicarMovimentos(caminho, caminho.length);
+            resultado.tabuleiroFinal = fim.toArray1D();
+        } else {
+            resultado.fitness = tabuleiroInicial.calcularDistanciaManhattan();
+        }
+        liberar();
+        resultado.tempoNanos = System.nanoTime() - inicio;
+        return resultado;
+    }
+
+    private void alocar(int capacidade) {
+        estados = new long[capacidade];
+        vazias = new byte[capacidade];
+        custos = new int[capacidade];
+        heuristicas = new int[capacidade];
+        manhattans = new int[capacidade];
+        pais = new int[capacidade];
+        movimentos = new byte[capacidade];
+        heap = new int[capacidade];
+        totalNos = 0;
+        tamanhoHeap = 0;
+    }
+
+    private void liberar() {
+        estados = null;
+        vazias = null;
+        custos = null;
+        heuristicas = null;
+        manhattans = null;
+        pais = null;
+        movimentos = null;
+        heap = null;
+    }
+
+    private int novoNo(PuzzleModel tabuleiro, int custo, int pai, byte movimento) {
+        if (totalNos == estados.length) {
+            int capacidade = estados.length * 2;
+            estados = Arrays.copyOf(estados, capacidade);
+            vazias = Arrays.copyOf(vazias, capacidade);
+            custos = Arrays.copyOf(custos, capacidade);
+            heuristicas = Arrays.copyOf(heuristicas, capacidade);
+            manhattans = Arrays.copyOf(manhattans, capacidade);
+            pais = Arrays.copyOf(pais, capacidade);
+            movimentos = Arrays.copyOf(movimentos, capacidade);
+        }
+        int no = totalNos++;
+        estados[no] = tabuleiro.getEstado();
+        vazias[no] = (byte) tabuleiro.getPosicaoVazia();
+        custos[no] = custo;
+        heuristicas[no] = heuristica.estimar(tabuleiro);
+        manhattans[no] = tabuleiro.calcularDistanciaManhattan();
+        pais[no] = pai;
+        movimentos[no] = movimento;
+        return no;
+    }
+
+    // Menor f = g + h primeiro; no empate, o nó mais profundo (maior g), que tende a estar mais perto do objetivo
+    private boolean precede(int a, int b) {
+        int fa = custos[a] + heuristicas[a];
+        int fb = custos[b] + heuristicas[b];
+        return fa < fb || (fa == fb && custos[a] > custos[b]);
+    }
+
+    private void inserir(int no) {
+        if (tamanhoHeap == heap.length) {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        int i = tamanhoHeap++;
+        while (i > 0) {
+            int pai = (i - 1) >>> 1;
+            if (!precede(no, heap[pai])) {
+                break;
+            }
+            heap[i] = heap[pai];
+            i = pai;
+        }
+        heap[i] = no;
+    }
+
+    private int removerMinimo() {
+        int minimo = heap[0];
+        int ultimo = heap[--tamanhoHeap];
+        int i = 0;
+        while (true) {
+            int filho = 2 * i + 1;
+            if (filho >= tamanhoHeap) {
+                break;
+            }
+            if (filho + 1 < tamanhoHeap && precede(heap[filho + 1], heap[filho])) {
+                filho++;
+            }
+            if (!precede(heap[filho], ultimo)) {
+                break;
+            }
+            heap[i] = heap[filho];
+            i = filho;
+        }
+        heap[i] = ultimo;
+        return minimo;
+    }
+}
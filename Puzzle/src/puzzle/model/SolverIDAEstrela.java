@@ -0,0 +1,121 @@
+package puzzle.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public final class SolverIDAEstrela implements Solver {
+    private static final int ENCONTRADO = -1;
+    private static final int INFINITO = Integer.MAX_VALUE;
+    private static final int INTERVALO_VERIFICACAO_PARADA = 1 << 16;
+
+    private final PuzzleModel tabuleiroInicial;
+    private int profundidadeMaxima = 80;
+    private Heuristica heuristica = Heuristica.MANHATTAN;
+
+    private PuzzleModel tabuleiro;
+    private byte[] caminho;
+    private int profundidadeSolucao;
+    private long expandidos;
+    private Supplier<Boolean> shouldStop;
+    private boolean interrompido;
+
+    public SolverIDAEstrela(PuzzleModel tabuleiroInicial) {
+        this.tabuleiroInicial = tabuleiroInicial.copia();
+    }
+
+    public void setProfundidadeMaxima(int profundidadeMaxima) {
+        this.profundidadeMaxima = Math.max(0, profundidadeMaxima);
+    }
+
+    public void setHeuristica(Heuristica heuristica) {
+        this.heuristica = Objects.requireNonNull(heuristica);
+    }
+
+    @Override
+    public String getNome() {
+        return "IDA*";
+    }
+
+    @Override
+    public ResultadoBusca resolver(Supplier<Boolean> shouldStop) {
+        if (!tabuleiroInicial.isSolucionavel()) {
+            throw new IllegalArgumentException("Tabuleiro sem solução");
+        }
+        long inicio = System.nanoTime();
+        ResultadoBusca resultado = new ResultadoBusca(getNome(), tabuleiroInicial);
+        this.tabuleiro = tabuleiroInicial.copia();
+        this.caminho = new byte[profundidadeMaxima];
+        this.shouldStop = shouldStop;
+        this.expandidos = 0;
+        this.interrompido = false;
+
+        int limite = heuristica.estimar(tabuleiro);
+        int t = limite;
+        while (limite <= profundidadeMaxima && !interrompido) {
+            t = buscar(0, limite, -1);
+            if (t == ENCONTRADO || t == INFINITO) {
+                break;
+            }
+            limite = t;
+        }
+
+        resultado.nosExpandidos = expandidos;
+        if (t == ENCONTRADO) {
+            resultado.movimentos = Arrays.copyOf(caminho, profundidadeSolucao);
+            resultado.solucionado = true;
+            resultado.otimo = true;
+            resultado.fitness = 0.0;
+            PuzzleModel fim = tabuleiroInicial.copia();
+            fim.aplicarMovimentos(resultado.movimentos, profundidadeSolucao);
+            resultado.tabuleiroFinal = fim.toArray1D();
+        } else {
+            resultado.fitness = tabuleiroInicial.calcularDistanciaManhattan();
+        }
+        tabuleiro = null;
+        caminho = null;
+        this.shouldStop = null;
+        resultado.tempoNanos = System.nanoTime() - inicio;
+        return resultado;
+    }
+
+    private int buscar(int custo, int limite, int ultimo) {
+        int f = custo + heuristica.estimar(tabuleiro);
+        if (f > limite) {
+            return f;
+        }
+        if (tabuleiro.isSolucionado()) {
+            profundidadeSolucao = custo;
+            return ENCONTRADO;
+        }
+        if (custo == caminho.length) {
+            return INFINITO;
+        }
+        if (++expandidos % INTERVALO_VERIFICACAO_PARADA == 0 && shouldStop.get()) {
+            interrompido = true;
+        }
+        if (interrompido) {
+            return INFINITO;
+        }
+
+        int minimo = INFINITO;
+        for (int movimento = 0; movimento < Movimento.TOTAL; movimento++) {
+            if (ultimo >= 0 && Movimento.isOposto(ultimo, movimento)) {
+                continue;
+            }
+            if (!tabuleiro.mover(movimento)) {
+                continue;
+            }
+            caminho[custo] = (byte) movimento;
+            int t = buscar(custo + 1, limite, movimento);
+            tabuleiro.mover(Movimento.deCodigo(movimento).oposto());
+            if (t == ENCONTRADO) {
+                return ENCONTRADO;
+            }
+            if (t < minimo) {
+                minimo = t;
+            }
+        }
+        return minimo;
+    }
+}
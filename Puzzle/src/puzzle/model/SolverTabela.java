@@ -0,0 +1,42 @@
+package puzzle.model;
+
+import java.util.function.Supplier;
+
+public final class SolverTabela implements Solver {
+    private final PuzzleModel tabuleiroInicial;
+    private final TabelaDistancias tabela;
+
+    public SolverTabela(PuzzleModel tabuleiroInicial) {
+        this(tabuleiroInicial, TabelaDistancias.padrao());
+    }
+
+    public SolverTabela(PuzzleModel tabuleiroInicial, TabelaDistancias tabela) {
+        if (tabuleiroInicial.getDimensao() != 3) {
+            throw new IllegalArgumentException("A tabela de distâncias só cobre o 3×3");
+        }
+        this.tabuleiroInicial = tabuleiroInicial.copia();
+        this.tabela = tabela;
+    }
+
+    @Override
+    public String getNome() {
+        return "Tabela de distâncias";
+    }
+
+    @Override
+    public ResultadoBusca resolver(Supplier<Boolean> shouldStop) {
+        long inicio = System.nanoTime();
+        ResultadoBusca resultado = new ResultadoBusca(getNome(), tabuleiroInicial);
+        byte[] caminho = tabela.solucaoOtima(tabuleiroInicial);
+        resultado.movimentos = caminho;
+        resultado.solucionado = true;
+        resultado.otimo = true;
+        resultado.fitness = 0.0;
+        resultado.nosExpandidos = caminho.length;
+        PuzzleModel fim = tabuleiroInicial.copia();
+        fim.aplicarMovimentos(caminho, caminho.length);
+        resultado.tabuleiroFinal = fim.toArray1D();
+        resultado.tempoNanos = System.nanoTime() - inicio;
+        return resultado;
+    }
+}
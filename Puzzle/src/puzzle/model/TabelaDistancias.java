@@ -0,0 +1,164 @@
+package puzzle.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+public final class TabelaDistancias {
+    // 9!/2: só metade das permutações é alcançável a partir da solução
+    public static final int TOTAL_ESTADOS = 181440;
+    public static final int DISTANCIA_MAXIMA = 31;
+    private static final int CABECALHO = 0x50384454;
+    private static final int TAMANHO_CABECALHO = 8;
+    private static final byte DESCONHECIDA = -1;
+    private static final int PERMUTACOES_PECAS = 20160;
+    private static final int[] PESOS = new int[6];
+
+    static {
+        // Índice = posição vazia * 8!/2 + código de Lehmer das peças 1..8 na ordem do tabuleiro. As duas últimas
+        // peças ficam determinadas pela paridade (sempre par nos estados alcançáveis), então cada peso é (7 - k)! / 2
+        int fatorial = 1;
+        for (int k = 5; k >= 0; k--) {
+            fatorial *= 7 - k;
+            PESOS[k] = fatorial / 2;
+        }
+    }
+
+    private static volatile TabelaDistancias padrao;
+
+    private final ByteBuffer distancias;
+
+    private TabelaDistancias(ByteBuffer distancias) {
+        this.distancias = distancias;
+    }
+
+    public static TabelaDistancias construir() {
+        byte[] distancias = new byte[TOTAL_ESTADOS];
+        Arrays.fill(distancias, DESCONHECIDA);
+        long[] fila = new long[TOTAL_ESTADOS];
+        byte[] vazias = new byte[TOTAL_ESTADOS];
+
+        PuzzleModel tabuleiro = new PuzzleModel();
+        fila[0] = tabuleiro.getEstado();
+        vazias[0] = (byte) tabuleiro.getPosicaoVazia();
+        distancias[indice(tabuleiro.getEstado())] = 0;
+        int inicio = 0;
+        int fim = 1;
+        while (inicio < fim) {
+            long estado = fila[inicio];
+            int vazia = vazias[inicio++];
+            byte proxima = (byte) (distancias[indice(estado)] + 1);
+            for (int movimento = 0; movimento < Movimento.TOTAL; movimento++) {
+                tabuleiro.restaurar(estado, vazia, 0);
+                if (!tabuleiro.mover(movimento)) {
+                    continue;
+                }
+                int vizinho = indice(tabuleiro.getEstado());
+                if (distancias[vizinho] == DESCONHECIDA) {
+                    distancias[vizinho] = proxima;
+                    fila[fim] = tabuleiro.getEstado();
+                    vazias[fim++] = (byte) tabuleiro.getPosicaoVazia();
+                }
+            }
+        }
+        return new TabelaDistancias(ByteBuffer.wrap(distancias));
+    }
+
+    public static TabelaDistancias padrao() {
+        TabelaDistancias tabela = padrao;
+        if (tabela == null) {
+            synchronized (TabelaDistancias.class) {
+                tabela = padrao;
+                if (tabela == null) {
+                    tabela = construir();
+                    padrao = tabela;
+                }
+            }
+        }
+        return tabela;
+    }
+
+    public static TabelaDistancias carregar(Path arquivo) throws IOException {
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            if (canal.size() != TAMANHO_CABECALHO + TOTAL_ESTADOS) {
+                throw new IOException("Tamanho inesperado da tabela de distâncias: " + canal.size());
+            }
+            ByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+            if (mapa.getInt(0) != CABECALHO || mapa.getInt(4) != TOTAL_ESTADOS) {
+                throw new IOException("Arquivo não é uma tabela de distâncias do 8-puzzle: " + arquivo);
+            }
+            mapa.position(TAMANHO_CABECALHO);
+            return new TabelaDistancias(mapa.slice());
+        }
+    }
+
+    public void salvar(Path arquivo) throws IOException {
+        ByteBuffer conteudo = ByteBuffer.allocate(TAMANHO_CABECALHO + TOTAL_ESTADOS);
+        conteudo.putInt(CABECALHO).putInt(TOTAL_ESTADOS);
+        ByteBuffer origem = distancias.duplicate();
+        origem.clear();
+        conteudo.put(origem);
+        conteudo.flip();
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (conteudo.hasRemaining()) {
+                canal.write(conteudo);
+            }
+        }
+    }
+
+    static int indice(long estado) {
+        int naoUsados = 0x1FE;
+        int indice = 0;
+        int vazia = 0;
+        int peca = 0;
+        for (int pos = 0; pos < 9; pos++) {
+            int valor = (int) ((estado >>> (pos << 2)) & 0xFL);
+            if (valor == 0) {
+                vazia = pos;
+                continue;
+            }
+            if (peca < PESOS.length) {
+                indice += Integer.bitCount(naoUsados & ((1 << valor) - 1)) * PESOS[peca++];
+                naoUsados &= ~(1 << valor);
+            }
+        }
+        return vazia * PERMUTACOES_PECAS + indice;
+    }
+
+    public int distancia(PuzzleModel tabuleiro) {
+        if (tabuleiro.getDimensao() != 3) {
+            throw new IllegalArgumentException("A tabela de distâncias só cobre o 3×3");
+        }
+        if (!tabuleiro.isSolucionavel()) {
+            return -1;
+        }
+        return distancias.get(indice(tabuleiro.getEstado()));
+    }
+
+    public byte[] solucaoOtima(PuzzleModel tabuleiroInicial) {
+        int distancia = distancia(tabuleiroInicial);
+        if (distancia < 0) {
+            throw new IllegalArgumentException("Tabuleiro sem solução");
+        }
+        byte[] caminho = new byte[distancia];
+        PuzzleModel tabuleiro = tabuleiroInicial.copia();
+        for (int passo = 0; passo < distancia; passo++) {
+            int restante = distancia - passo - 1;
+            for (int movimento = 0; movimento < Movimento.TOTAL; movimento++) {
+                if (!tabuleiro.mover(movimento)) {
+                    continue;
+                }
+                if (distancias.get(indice(tabuleiro.getEstado())) == restante) {
+                    caminho[passo] = (byte) movimento;
+                    break;
+                }
+                tabuleiro.mover(Movimento.deCodigo(movimento).oposto());
+            }
+        }
+        return caminho;
+    }
+}
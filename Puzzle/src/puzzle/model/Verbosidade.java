@@ -0,0 +1,12 @@
+package puzzle.model;
+
+public enum Verbosidade {
+    SILENCIOSO,
+    RESUMO,
+    GERACOES,
+    DETALHADO;
+
+    public boolean inclui(Verbosidade nivel) {
+        return compareTo(nivel) >= 0;
+    }
+}